@@ -3,6 +3,7 @@ package seedu.quotesify;
 import seedu.quotesify.commands.Command;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.parser.Parser;
+import seedu.quotesify.store.SaveFormat;
 import seedu.quotesify.store.Storage;
 import seedu.quotesify.ui.TextUi;
 
@@ -23,6 +24,7 @@ public class Quotesify {
     private final Logger logger = Logger.getLogger("QuotesifyLogger");
     private final Storage storage;
     private final String saveFileLocation = "/data/quotesify.json";
+    private final long saveInterval = Long.getLong("quotesify.saveInterval", 500);
 
     /**
      * Default constructor for Quotesify.
@@ -33,8 +35,12 @@ public class Quotesify {
 
         setupLogger();
         ListManager.initialiseAllLists();
-        storage = new Storage(saveFileLocation);
+        storage = new Storage(saveFileLocation, SaveFormat.SEGMENTED, true);
         storage.load();
+        storage.startBackgroundSaving(saveInterval);
+
+        // write out changes still waiting for the save worker if the program is interrupted or terminated
+        Runtime.getRuntime().addShutdownHook(new Thread(storage::flush, "QuotesifyShutdownSaver"));
     }
 
     /**
@@ -56,20 +62,31 @@ public class Quotesify {
     }
 
     /**
-     * Reads the user command and executes it until an exit command is issued.
+     * Reads the user command and executes it until an exit command is issued or the input ends.
+     * Changes still waiting to be saved are written before returning at the end of the input.
      */
     public void runLoopUntilExitCommand() {
         boolean isExit = false;
         while (!isExit) {
             ui.printDividerLine();
             String userCommandText = ui.getUserCommand();
+            if (userCommandText == null) {
+                ui.printDividerLine();
+                storage.flush();
+                return;
+            }
             Command command = parser.parseUserCommand(userCommandText);
             ui.printDividerLine();
             if (command == null) {
                 ui.printInvalidQuotesifyCommand();
                 continue;
             }
-            command.execute(ui, storage);
+            storage.lock();
+            try {
+                command.execute(ui, storage);
+            } finally {
+                storage.unlock();
+            }
             isExit = command.isExit();
         }
     }
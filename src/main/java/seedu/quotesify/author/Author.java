@@ -2,9 +2,11 @@ package seedu.quotesify.author;
 
 import org.json.simple.JSONObject;
 import seedu.quotesify.parser.JsonSerializer;
+import seedu.quotesify.search.SearchKey;
 
 public class Author implements JsonSerializer {
     String name;
+    private String nameKey;
 
     public Author(String name) {
         this.name = name;
@@ -16,6 +18,19 @@ public class Author implements JsonSerializer {
 
     public void setName(String name) {
         this.name = name;
+        nameKey = null;
+    }
+
+    /**
+     * Returns the normalized name the author is searched by, which is computed once per name.
+     *
+     * @return Normalized name of author.
+     */
+    public String getNameKey() {
+        if (nameKey == null) {
+            nameKey = SearchKey.normalize(name);
+        }
+        return nameKey;
     }
 
     @Override
@@ -0,0 +1,99 @@
+package seedu.quotesify.author;
+
+import seedu.quotesify.search.SearchKey;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+
+/**
+ * Represents the directory of all authors, shared by books and quotes.
+ *
+ * <p>Authors are interned by their normalized name, so every book and quote by the same author refers to
+ * a single canonical author object. Authors are only held weakly, so an author that no book or quote refers to
+ * any more, such as one whose books were all deleted, is dropped from the directory.</p>
+ *
+ * <p>When saved data is loaded, the canonical author takes its name from the list that is first in the order of
+ * lists, so books come before all others. Lists may be parsed concurrently or loaded on demand, so this keeps the
+ * name an author is shown with the same however the lists happen to be loaded.</p>
+ */
+public class AuthorDirectory {
+    private static final int NEW_AUTHOR_SOURCE = Integer.MAX_VALUE;
+
+    private static HashMap<String, AuthorReference> authorsByKey = new HashMap<>();
+    private static ReferenceQueue<Author> unusedAuthors = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical author with the given name, creating it if there is none yet.
+     * An existing author keeps the name it already has.
+     *
+     * @param name Author name.
+     * @return Canonical author.
+     */
+    public static Author intern(String name) {
+        return intern(name, NEW_AUTHOR_SOURCE);
+    }
+
+    /**
+     * Returns the canonical author with the given name as read from saved data, creating it if there is none yet.
+     * An existing author takes the given name if it has so far only been read from lists later in the order.
+     *
+     * @param name Author name.
+     * @param source List type of the list the name was read from, in the order of the list manager.
+     * @return Canonical author.
+     */
+    public static synchronized Author intern(String name, int source) {
+        removeUnusedAuthors();
+        String key = SearchKey.normalize(name);
+        AuthorReference reference = authorsByKey.get(key);
+        Author author = reference == null ? null : reference.get();
+        if (author == null) {
+            author = new Author(name);
+            authorsByKey.put(key, new AuthorReference(author, key, source, unusedAuthors));
+        } else if (source < reference.source) {
+            author.setName(name);
+            reference.source = source;
+        }
+        return author;
+    }
+
+    /**
+     * Forgets all authors, usually when all lists are initialised or loaded again.
+     */
+    public static synchronized void clear() {
+        authorsByKey.clear();
+        unusedAuthors = new ReferenceQueue<>();
+    }
+
+    /**
+     * Removes the authors that are no longer referred to from the directory.
+     */
+    private static void removeUnusedAuthors() {
+        AuthorReference reference;
+        while ((reference = (AuthorReference) unusedAuthors.poll()) != null) {
+            authorsByKey.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * Represents a weak reference to a canonical author, along with where its name was taken from.
+     */
+    private static class AuthorReference extends WeakReference<Author> {
+        private final String key;
+        private int source;
+
+        /**
+         * Constructor for an author reference.
+         *
+         * @param author Canonical author.
+         * @param key Normalized name of the author.
+         * @param source List type of the list the name was taken from.
+         * @param queue Queue the reference is put on once the author is no longer referred to.
+         */
+        AuthorReference(Author author, String key, int source, ReferenceQueue<Author> queue) {
+            super(author, queue);
+            this.key = key;
+            this.source = source;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.quotesify.book;
 import org.json.simple.JSONObject;
 import seedu.quotesify.author.Author;
 import seedu.quotesify.parser.JsonSerializer;
+import seedu.quotesify.search.SearchKey;
 import seedu.quotesify.ui.UiMessage;
 
 import java.util.ArrayList;
@@ -13,12 +14,24 @@ import java.util.ArrayList;
  * Represents a book.
  */
 public class Book implements JsonSerializer {
+    private long id;
     private Author author;
     private String title;
+    private String titleKey;
     private boolean isDone;
     private ArrayList<String> categories = new ArrayList<>();
     private int rating;
 
+    /**
+     * Constructor for a reference to a saved book by its identifier.
+     * The reference is replaced by the book itself once all books have been loaded.
+     *
+     * @param id Identifier of the book.
+     */
+    public Book(long id) {
+        this.id = id;
+    }
+
     /**
      * Constructor for book with an author and title.
      *
@@ -80,6 +93,24 @@ public class Book implements JsonSerializer {
         this.rating = rating;
     }
 
+    /**
+     * Returns the identifier of the book, which stays the same for as long as the book is kept.
+     *
+     * @return Identifier of the book, or 0 if it has not been assigned one yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the identifier of the book.
+     *
+     * @param id Identifier of the book.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
     /**
      * Returns author object.
      *
@@ -114,6 +145,19 @@ public class Book implements JsonSerializer {
      */
     public void setTitle(String title) {
         this.title = title;
+        titleKey = null;
+    }
+
+    /**
+     * Returns the normalized title the book is searched and sorted by, which is computed once per title.
+     *
+     * @return Normalized title of book.
+     */
+    public String getTitleKey() {
+        if (titleKey == null) {
+            titleKey = SearchKey.normalize(title);
+        }
+        return titleKey;
     }
 
     /**
@@ -230,6 +274,7 @@ public class Book implements JsonSerializer {
     @Override
     public JSONObject toJson() {
         JSONObject details = new JSONObject();
+        details.put("id", this.getId());
         details.put("author", this.getAuthor().toJson());
         details.put("title", this.getTitle());
         details.put("isDone", this.isDone());
@@ -4,9 +4,16 @@ import org.json.simple.JSONArray;
 import seedu.quotesify.author.Author;
 import seedu.quotesify.commands.Command;
 import seedu.quotesify.exception.QuotesifyException;
+import seedu.quotesify.lists.ListChange;
 import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.search.FuzzyIndex;
+import seedu.quotesify.search.SearchKey;
+import seedu.quotesify.search.TrigramIndex;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.stream.Collectors;
 
 //@@author chloesyy
@@ -15,8 +22,16 @@ import java.util.stream.Collectors;
  * Represents a BookList of books.
  */
 public class BookList extends QuotesifyList<Book> {
+    private static final int TITLE_KEY = 1;
+
     private ArrayList<Book> books = super.getList();
     private BookTitleComparator comparator = new BookTitleComparator();
+    private long lastId = -1;
+    private HashMap<String, ArrayList<Book>> booksByTitleAndAuthor;
+    private HashMap<String, ArrayList<Book>> booksByTitle;
+    private HashMap<String, ArrayList<Book>> booksByAuthor;
+    private TrigramIndex<Book> substringIndex;
+    private FuzzyIndex<Book> fuzzyIndex;
 
     /**
      * Constructor for empty BookList.
@@ -34,14 +49,260 @@ public class BookList extends QuotesifyList<Book> {
     }
 
     /**
-     * Adds a new book to the BookList and sorts the BookList in alphabetical order.
+     * Adds a new book to the BookList at its position in alphabetical order.
+     * A book without an identifier is assigned a new one.
      *
      * @param newBook New book to be added to the BookList.
      */
     @Override
     public void add(Book newBook) {
-        books.add(newBook);
-        books.sort(comparator);
+        assignId(newBook);
+        int index = findInsertionIndex(newBook);
+        books.add(index, newBook);
+        addToIndex(newBook);
+        recordChange(ListChange.ADD, index, newBook);
+    }
+
+    /**
+     * Adds many books to the BookList at once, sorting the BookList in alphabetical order only once.
+     * Books without an identifier are assigned new ones.
+     *
+     * @param newBooks New books to be added to the BookList.
+     */
+    public void addAll(Collection<Book> newBooks) {
+        for (Book newBook : newBooks) {
+            assignId(newBook);
+            books.add(newBook);
+            addToIndex(newBook);
+            recordChange(ListChange.ADD, books.size() - 1, newBook);
+        }
+        sort();
+    }
+
+    /**
+     * Changes the title of a book, moving the book to its new position in alphabetical order.
+     *
+     * @param book Book in the BookList.
+     * @param title New title of the book.
+     */
+    public void updateTitle(Book book, String title) {
+        delete(getIndex(book));
+        book.setTitle(title);
+        add(book);
+    }
+
+    /**
+     * Returns the position at which a book belongs in alphabetical order, after any books with the same title.
+     *
+     * @param book Book to be added.
+     * @return Index to insert the book at.
+     */
+    private int findInsertionIndex(Book book) {
+        int low = 0;
+        int high = books.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(books.get(middle), book) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Drops the title, author, substring and fuzzy indexes so that they are rebuilt from the BookList when next needed.
+     * Used after books have been changed directly in the underlying list, such as when replaying saved changes.
+     */
+    public void reindex() {
+        booksByTitleAndAuthor = null;
+        booksByTitle = null;
+        booksByAuthor = null;
+        substringIndex = null;
+        fuzzyIndex = null;
+    }
+
+    /**
+     * Returns the books indexed by their normalized title and author, building the index if needed.
+     *
+     * @return Books by title and author key.
+     */
+    private HashMap<String, ArrayList<Book>> getBooksByTitleAndAuthor() {
+        if (booksByTitleAndAuthor == null) {
+            buildIndex();
+        }
+        return booksByTitleAndAuthor;
+    }
+
+    /**
+     * Returns the books indexed by their normalized title, building the index if needed.
+     *
+     * @return Books by title key.
+     */
+    private HashMap<String, ArrayList<Book>> getBooksByTitle() {
+        if (booksByTitle == null) {
+            buildIndex();
+        }
+        return booksByTitle;
+    }
+
+    /**
+     * Returns the books indexed by their normalized author name, building the index if needed.
+     *
+     * @return Books by author key.
+     */
+    private HashMap<String, ArrayList<Book>> getBooksByAuthor() {
+        if (booksByAuthor == null) {
+            buildIndex();
+        }
+        return booksByAuthor;
+    }
+
+    /**
+     * Returns the index of substrings of the titles and author names, building it if needed.
+     *
+     * @return Index of books by the substrings of their title and author.
+     */
+    private TrigramIndex<Book> getSubstringIndex() {
+        if (substringIndex == null) {
+            substringIndex = new TrigramIndex<>();
+            for (Book book : books) {
+                substringIndex.add(book, book.getTitleKey(), book.getAuthor().getNameKey());
+            }
+        }
+        return substringIndex;
+    }
+
+    /**
+     * Returns the typo-tolerant index of the words in the titles and author names, building it if needed.
+     *
+     * @return Index of books by the words of their title and author.
+     */
+    private FuzzyIndex<Book> getFuzzyIndex() {
+        if (fuzzyIndex == null) {
+            fuzzyIndex = new FuzzyIndex<>();
+            for (Book book : books) {
+                fuzzyIndex.add(book, book.getTitleKey(), book.getAuthor().getNameKey());
+            }
+        }
+        return fuzzyIndex;
+    }
+
+    /**
+     * Builds the title and author indexes from the books in the BookList, keeping them in list order.
+     */
+    private void buildIndex() {
+        booksByTitleAndAuthor = new HashMap<>();
+        booksByTitle = new HashMap<>();
+        booksByAuthor = new HashMap<>();
+        for (Book book : books) {
+            addToKeyIndexes(book);
+        }
+    }
+
+    /**
+     * Adds a book to the indexes that have been built.
+     *
+     * @param book Book added to the BookList.
+     */
+    private void addToIndex(Book book) {
+        if (substringIndex != null) {
+            substringIndex.add(book, book.getTitleKey(), book.getAuthor().getNameKey());
+        }
+        if (fuzzyIndex != null) {
+            fuzzyIndex.add(book, book.getTitleKey(), book.getAuthor().getNameKey());
+        }
+        if (booksByTitleAndAuthor != null) {
+            addToKeyIndexes(book);
+        }
+    }
+
+    /**
+     * Adds a book to the title and author indexes.
+     *
+     * @param book Book added to the BookList.
+     */
+    private void addToKeyIndexes(Book book) {
+        String key = getIndexKey(book.getTitleKey(), book.getAuthor().getNameKey());
+        booksByTitleAndAuthor.computeIfAbsent(key, k -> new ArrayList<>(1)).add(book);
+        booksByTitle.computeIfAbsent(book.getTitleKey(), k -> new ArrayList<>(1)).add(book);
+        booksByAuthor.computeIfAbsent(book.getAuthor().getNameKey(), k -> new ArrayList<>()).add(book);
+    }
+
+    /**
+     * Removes a book from the indexes that have been built.
+     *
+     * @param book Book removed from the BookList.
+     */
+    private void removeFromIndex(Book book) {
+        if (substringIndex != null) {
+            substringIndex.remove(book);
+        }
+        if (fuzzyIndex != null) {
+            fuzzyIndex.remove(book);
+        }
+        if (booksByTitleAndAuthor == null) {
+            return;
+        }
+        removeFromBucket(booksByTitleAndAuthor, getIndexKey(book.getTitleKey(), book.getAuthor().getNameKey()), book);
+        removeFromBucket(booksByTitle, book.getTitleKey(), book);
+        removeFromBucket(booksByAuthor, book.getAuthor().getNameKey(), book);
+    }
+
+    /**
+     * Removes a book from the books indexed under a key, dropping the key once no books are left.
+     *
+     * @param index Index to remove the book from.
+     * @param key Key the book is indexed under.
+     * @param book Book to be removed.
+     */
+    private static void removeFromBucket(HashMap<String, ArrayList<Book>> index, String key, Book book) {
+        ArrayList<Book> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(book);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Returns the key a book is indexed under by its title and author.
+     * Normalized keys never contain line breaks, so the combined key is unambiguous.
+     *
+     * @param titleKey Normalized title.
+     * @param authorKey Normalized author name.
+     * @return Combined key.
+     */
+    private static String getIndexKey(String titleKey, String authorKey) {
+        return titleKey + "\n" + authorKey;
+    }
+
+    /**
+     * Returns the key a book with the given title and author is indexed under.
+     * Books with the same key are considered the same book.
+     *
+     * @param title Title of book.
+     * @param authorName Author name of book.
+     * @return Combined key of the normalized title and author name.
+     */
+    public static String getTitleAndAuthorKey(String title, String authorName) {
+        return getIndexKey(SearchKey.normalize(title), SearchKey.normalize(authorName));
+    }
+
+    /**
+     * Assigns a new identifier to a book that does not have one yet.
+     *
+     * @param book Book to be added.
+     */
+    private void assignId(Book book) {
+        if (book.getId() == 0) {
+            book.setId(nextId());
+        } else if (lastId >= 0) {
+            lastId = Math.max(lastId, book.getId());
+        }
     }
 
     /**
@@ -51,7 +312,8 @@ public class BookList extends QuotesifyList<Book> {
      */
     @Override
     public void delete(int index) {
-        books.remove(index);
+        removeFromIndex(books.remove(index));
+        recordChange(ListChange.DELETE, index, null);
     }
 
     /**
@@ -63,16 +325,6 @@ public class BookList extends QuotesifyList<Book> {
         return books.isEmpty();
     }
 
-    /**
-     * Returns index of specified book in the BookList.
-     *
-     * @param book Book to get index.
-     * @return Index of book.
-     */
-    public int getIndex(Book book) {
-        return books.indexOf(book);
-    }
-
     /**
      * Returns book for a specified index.
      *
@@ -95,40 +347,87 @@ public class BookList extends QuotesifyList<Book> {
     /**
      * Sorts the BookList in alphabetical order.
      */
+    @Override
     public void sort() {
-        books.sort(comparator);
+        sortBy(comparator);
     }
 
     /**
-     * Converts the BookList into a String.
+     * Assigns an identifier to every book that does not have one yet, such as books saved by older versions.
+     * Identifiers are assigned in list order, so the same saved books are always assigned the same identifiers.
      *
-     * @return String of books in BookList.
+     * @return True if any book was assigned an identifier.
      */
-    @Override
-    public String toString() {
-        String booksToReturn = "";
+    public boolean assignMissingIds() {
+        lastId = -1;
+        boolean isAssigned = false;
+        for (Book book : books) {
+            if (book.getId() == 0) {
+                book.setId(nextId());
+                isAssigned = true;
+            }
+        }
+        return isAssigned;
+    }
+
+    /**
+     * Returns an identifier that no book in the BookList has.
+     *
+     * @return New identifier.
+     */
+    private long nextId() {
+        if (lastId < 0) {
+            lastId = books.stream().mapToLong(Book::getId).max().orElse(0);
+        }
+        return ++lastId;
+    }
 
+    /**
+     * Returns the books in the BookList by their identifiers.
+     *
+     * @return Books by identifier.
+     */
+    public HashMap<Long, Book> getBooksById() {
+        HashMap<Long, Book> booksById = new HashMap<>();
         for (Book book : books) {
-            booksToReturn += book.toString() + System.lineSeparator();
+            booksById.put(book.getId(), book);
         }
+        return booksById;
+    }
 
-        return booksToReturn;
+    /**
+     * Finds the book in the BookList that a saved reference refers to.
+     * References saved by older versions hold the title and author of the book instead of its identifier.
+     *
+     * @param reference Saved reference to a book.
+     * @param booksById Books in the BookList by identifier.
+     * @return Book referred to, or null if it is not in the BookList.
+     */
+    public Book findReferencedBook(Book reference, HashMap<Long, Book> booksById) {
+        if (reference.getId() != 0) {
+            return booksById.get(reference.getId());
+        }
+        if (reference.getTitle() == null || reference.getAuthor() == null) {
+            return null;
+        }
+        ArrayList<Book> matchingBooks = find(reference.getTitle(), reference.getAuthor().getName());
+        return matchingBooks.isEmpty() ? null : matchingBooks.get(0);
     }
 
     /**
-     * Converts the BookList into a String with corresponding indexing.
+     * Converts the BookList into a String.
      *
-     * @return String of books with their corresponding index in BookList.
+     * @return String of books in BookList.
      */
-    public String toStringWithIndex() {
-        String booksToReturn = "";
+    @Override
+    public String toString() {
+        StringBuilder booksToReturn = new StringBuilder();
 
         for (Book book : books) {
-            booksToReturn += getIndex(book) + 1 + ". " + book.getStatusIcon()
-                    + book.toString() + System.lineSeparator();
+            booksToReturn.append(book.toString()).append(System.lineSeparator());
         }
 
-        return booksToReturn;
+        return booksToReturn.toString();
     }
 
     /**
@@ -139,13 +438,22 @@ public class BookList extends QuotesifyList<Book> {
      * @throws QuotesifyException If there is a similar book.
      */
     public void ensureNoSimilarBooks(String title, String authorName) throws QuotesifyException {
-        ArrayList<Book> similarBooks = find(title, authorName);
-
-        if (!similarBooks.isEmpty()) {
+        if (hasBook(title, authorName)) {
             throw new QuotesifyException(Command.ERROR_BOOK_ALREADY_EXISTS);
         }
     }
 
+    /**
+     * Checks if the BookList has a book with the same title and author, regardless of case and spacing.
+     *
+     * @param title Title of book.
+     * @param authorName Author name of book.
+     * @return True if such a book is in the BookList.
+     */
+    public boolean hasBook(String title, String authorName) {
+        return getBooksByTitleAndAuthor().containsKey(getTitleAndAuthorKey(title, authorName));
+    }
+
     /**
      * Finds a list of books in the BookList with the same author and title.
      *
@@ -155,19 +463,9 @@ public class BookList extends QuotesifyList<Book> {
      */
     public ArrayList<Book> find(String title, String authorName) {
         assert !title.isEmpty() || !authorName.isEmpty();
-        String lowerCaseTitle = title.toLowerCase();
-        String lowerCaseAuthor = authorName.toLowerCase();
+        ArrayList<Book> similarBooks = getBooksByTitleAndAuthor().get(getTitleAndAuthorKey(title, authorName));
 
-        ArrayList<Book> filteredBooks = (ArrayList<Book>) books.stream()
-                .filter(book -> {
-                    Author bookAuthor = book.getAuthor();
-                    String bookAuthorName = bookAuthor.getName();
-                    String bookTitle = book.getTitle();
-                    return bookAuthorName.toLowerCase().equals(lowerCaseAuthor)
-                            && bookTitle.toLowerCase().equals(lowerCaseTitle);
-                }).collect(Collectors.toList());
-
-        return filteredBooks;
+        return similarBooks == null ? new ArrayList<>() : new ArrayList<>(similarBooks);
     }
 
     /**
@@ -178,19 +476,33 @@ public class BookList extends QuotesifyList<Book> {
      */
     public BookList findByKeyword(String keyword) {
         assert !keyword.isEmpty();
-        String lowerCaseKeyword = keyword.toLowerCase();
-
-        ArrayList<Book> filteredBooks = (ArrayList<Book>) books.stream()
-                .filter(book -> {
-                    String authorName = book.getAuthor().getName();
-                    String bookTitle = book.getTitle();
-                    return authorName.toLowerCase().contains(lowerCaseKeyword)
-                            || bookTitle.toLowerCase().contains(lowerCaseKeyword);
-                }).collect(Collectors.toList());
+        ArrayList<Book> filteredBooks = getSubstringIndex().search(SearchKey.normalize(keyword),
+                Comparator.comparingInt(this::getIndex));
 
         return new BookList(filteredBooks);
     }
 
+    /**
+     * Finds a BookList of books whose title or author name is close to a keyword, allowing for typos.
+     *
+     * @param keyword Keyword used to find the books.
+     * @return BookList of matching books, from the closest match to the furthest.
+     */
+    public BookList findByKeywordFuzzy(String keyword) {
+        assert !keyword.isEmpty();
+        return new BookList(getFuzzyIndex().search(keyword, Comparator.comparingInt(this::getIndex)));
+    }
+
+    /**
+     * Finds the books whose title is close to a keyword, allowing for typos.
+     *
+     * @param keyword Keyword used to find the books.
+     * @return Matching books, from the closest match to the furthest.
+     */
+    public ArrayList<Book> findByTitleFuzzy(String keyword) {
+        return getFuzzyIndex().search(keyword, TITLE_KEY, Comparator.comparingInt(this::getIndex));
+    }
+
     /**
      * Finds a book by its title.
      *
@@ -199,14 +511,9 @@ public class BookList extends QuotesifyList<Book> {
      */
     public Book findByTitle(String title) {
         assert !title.isEmpty();
-        String lowerCaseTitle = title.toLowerCase();
+        ArrayList<Book> booksWithTitle = getBooksByTitle().get(SearchKey.normalize(title));
 
-        for (Book book : books) {
-            if (book.getTitle().toLowerCase().equals(lowerCaseTitle)) {
-                return book;
-            }
-        }
-        return null;
+        return booksWithTitle == null ? null : booksWithTitle.get(0);
     }
 
     /**
@@ -231,12 +538,12 @@ public class BookList extends QuotesifyList<Book> {
      * @return Author corresponding to authorName.
      */
     public Author findExistingAuthor(String authorName) {
-        BookList filteredBooks = filterByAuthor(authorName);
+        ArrayList<Book> booksByAuthor = getBooksByAuthor().get(SearchKey.normalize(authorName));
 
-        if (filteredBooks.isEmpty()) {
+        if (booksByAuthor == null) {
             return null;
         }
-        Author author = filteredBooks.getBook(0).getAuthor();
+        Author author = booksByAuthor.get(0).getAuthor();
 
         return author;
     }
@@ -270,14 +577,9 @@ public class BookList extends QuotesifyList<Book> {
      * @return BookList of books with the same author.
      */
     public BookList filterByAuthor(String authorName) {
-        String lowerCaseAuthor = authorName.toLowerCase();
-
-        ArrayList<Book> filteredBooks = (ArrayList<Book>) books.stream()
-                .filter(book -> {
-                    Author bookAuthor = book.getAuthor();
-                    String bookAuthorName = bookAuthor.getName();
-                    return bookAuthorName.toLowerCase().equals(lowerCaseAuthor);
-                }).collect(Collectors.toList());
+        ArrayList<Book> booksByAuthor = getBooksByAuthor().get(SearchKey.normalize(authorName));
+        ArrayList<Book> filteredBooks = booksByAuthor == null ? new ArrayList<>() : new ArrayList<>(booksByAuthor);
+        filteredBooks.sort(comparator);
 
         return new BookList(filteredBooks);
     }
@@ -6,6 +6,6 @@ import java.util.Comparator;
 public class BookTitleComparator implements Comparator<Book> {
     @Override
     public int compare(Book b1, Book b2) {
-        return b1.getTitle().toLowerCase().compareTo(b2.getTitle().toLowerCase());
+        return b1.getTitleKey().compareTo(b2.getTitleKey());
     }
 }
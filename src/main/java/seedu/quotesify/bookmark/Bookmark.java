@@ -72,13 +72,14 @@ public class Bookmark implements JsonSerializer {
 
     /**
      * Converts the bookmark object to a JSON object.
+     * The book is saved as a reference to its identifier.
      *
      * @return A Bookmark object as a JSONObject.
      */
     @Override
     public JSONObject toJson() {
         JSONObject details = new JSONObject();
-        details.put("book", this.getBook().toJson());
+        details.put("book", this.getBook().getId());
         details.put("pageNum", this.pageNum);
         return details;
     }
@@ -2,9 +2,12 @@ package seedu.quotesify.bookmark;
 
 import org.json.simple.JSONArray;
 import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.lists.ListChange;
 import seedu.quotesify.lists.QuotesifyList;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 
 //@@author lunzard
 
@@ -36,6 +39,7 @@ public class BookmarkList extends QuotesifyList<Bookmark> {
      */
     public void add(Bookmark newBookmark) {
         bookmarks.add(newBookmark);
+        recordChange(ListChange.ADD, bookmarks.size() - 1, newBookmark);
     }
 
     /**
@@ -85,6 +89,7 @@ public class BookmarkList extends QuotesifyList<Bookmark> {
     @Override
     public void delete(int index) {
         bookmarks.remove(index);
+        recordChange(ListChange.DELETE, index, null);
     }
 
     /**
@@ -93,7 +98,35 @@ public class BookmarkList extends QuotesifyList<Bookmark> {
      * @param bookmark Bookmark object to be deleted.
      */
     public void delete(Bookmark bookmark) {
-        bookmarks.remove(bookmark);
+        int index = getIndex(bookmark);
+        if (index >= 0) {
+            delete(index);
+        }
+    }
+
+    /**
+     * Replaces the saved book references of all bookmarks with the books in the given BookList.
+     * Bookmarks on books that are no longer in the BookList are deleted.
+     *
+     * @param books BookList holding the bookmarked books.
+     * @return True if any bookmark was saved by an older version and has to be saved again.
+     */
+    public boolean resolveBooks(BookList books) {
+        HashMap<Long, Book> booksById = books.getBooksById();
+        boolean hasOldReferences = false;
+        for (int i = bookmarks.size() - 1; i >= 0; i--) {
+            Bookmark bookmark = bookmarks.get(i);
+            Book book = books.findReferencedBook(bookmark.getBook(), booksById);
+            if (book == null) {
+                delete(i);
+                continue;
+            }
+            if (bookmark.getBook().getId() == 0) {
+                hasOldReferences = true;
+            }
+            bookmark.setBook(book);
+        }
+        return hasOldReferences;
     }
 
     /**
@@ -103,14 +136,14 @@ public class BookmarkList extends QuotesifyList<Bookmark> {
      */
     @Override
     public String toString() {
-        String bookmarksToReturn = "";
+        StringBuilder bookmarksToReturn = new StringBuilder();
         int index = 0;
         for (Bookmark bookmark: bookmarks) {
             index++;
-            bookmarksToReturn += index + ". " + bookmark.toString() + System.lineSeparator();
+            bookmarksToReturn.append(index).append(". ").append(bookmark.toString()).append(System.lineSeparator());
         }
 
-        return bookmarksToReturn;
+        return bookmarksToReturn.toString();
     }
 
     /**
@@ -1,17 +1,24 @@
 package seedu.quotesify.category;
 
 import org.json.simple.JSONObject;
+import seedu.quotesify.book.Book;
 import seedu.quotesify.book.BookList;
 import seedu.quotesify.parser.JsonSerializer;
+import seedu.quotesify.quote.Quote;
 import seedu.quotesify.quote.QuoteList;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * Represents a category for a book or quote.
  */
 public class Category implements JsonSerializer {
     private String category;
-    private BookList bookList;
-    private QuoteList quoteList;
+    private LinkedHashSet<Book> books = new LinkedHashSet<>();
+    private LinkedHashSet<Quote> quotes = new LinkedHashSet<>();
 
     /**
      * Constructor for category.
@@ -20,8 +27,6 @@ public class Category implements JsonSerializer {
      */
     public Category(String category) {
         this.category = category;
-        bookList = new BookList();
-        quoteList = new QuoteList();
     }
 
     /**
@@ -48,16 +53,36 @@ public class Category implements JsonSerializer {
      * @return Number of items under the category.
      */
     public int getSize() {
-        return bookList.getList().size() + quoteList.getList().size();
+        return books.size() + quotes.size();
+    }
+
+    /**
+     * Returns the books tagged with the category, in the order they were tagged.
+     * The books are not copied, so the view reflects later changes to the category.
+     *
+     * @return Unmodifiable view of the books.
+     */
+    public Set<Book> getBooks() {
+        return Collections.unmodifiableSet(books);
+    }
+
+    /**
+     * Returns the quotes tagged with the category, in the order they were tagged.
+     * The quotes are not copied, so the view reflects later changes to the category.
+     *
+     * @return Unmodifiable view of the quotes.
+     */
+    public Set<Quote> getQuotes() {
+        return Collections.unmodifiableSet(quotes);
     }
 
     /**
-     * Returns the list of books tagged with the category.
+     * Returns a copy of the list of books tagged with the category.
      *
      * @return A list of books.
      */
     public BookList getBookList() {
-        return bookList;
+        return new BookList(new ArrayList<>(books));
     }
 
     /**
@@ -66,16 +91,16 @@ public class Category implements JsonSerializer {
      * @param books List of books tagged with the category.
      */
     public void setBookList(BookList books) {
-        this.bookList = books;
+        this.books = new LinkedHashSet<>(books.getList());
     }
 
     /**
-     * Returns a list of quotes tagged under the category.
+     * Returns a copy of the list of quotes tagged under the category.
      *
      * @return A list of quotes.
      */
     public QuoteList getQuoteList() {
-        return quoteList;
+        return new QuoteList(new ArrayList<>(quotes));
     }
 
     /**
@@ -84,7 +109,43 @@ public class Category implements JsonSerializer {
      * @param quoteList A list of quotes tagged under the category.
      */
     public void setQuoteList(QuoteList quoteList) {
-        this.quoteList = quoteList;
+        this.quotes = new LinkedHashSet<>(quoteList.getList());
+    }
+
+    /**
+     * Adds a book to the books tagged with the category.
+     *
+     * @param book Book tagged with the category.
+     */
+    public void addBook(Book book) {
+        books.add(book);
+    }
+
+    /**
+     * Removes a book from the books tagged with the category.
+     *
+     * @param book Book no longer tagged with the category.
+     */
+    public void removeBook(Book book) {
+        books.remove(book);
+    }
+
+    /**
+     * Adds a quote to the quotes tagged with the category.
+     *
+     * @param quote Quote tagged with the category.
+     */
+    public void addQuote(Quote quote) {
+        quotes.add(quote);
+    }
+
+    /**
+     * Removes a quote from the quotes tagged with the category.
+     *
+     * @param quote Quote no longer tagged with the category.
+     */
+    public void removeQuote(Quote quote) {
+        quotes.remove(quote);
     }
 
     /**
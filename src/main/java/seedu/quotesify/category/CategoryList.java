@@ -1,20 +1,30 @@
 package seedu.quotesify.category;
 
 import org.json.simple.JSONArray;
+import seedu.quotesify.book.Book;
 import seedu.quotesify.book.BookList;
 import seedu.quotesify.exception.QuotesifyException;
+import seedu.quotesify.lists.ListChange;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.quote.Quote;
 import seedu.quotesify.quote.QuoteList;
+import seedu.quotesify.search.FuzzyIndex;
+import seedu.quotesify.search.TrigramIndex;
 
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.function.Function;
 
 /**
  * Represents a list of categories.
  */
 public class CategoryList extends QuotesifyList<Category> {
     private ArrayList<Category> categories = super.getList();
+    private HashMap<String, Category> categoriesByName = new HashMap<>();
+    private TrigramIndex<Category> substringIndex;
+    private FuzzyIndex<Category> fuzzyIndex;
 
     /**
      * Default constructor for category list.
@@ -29,6 +39,7 @@ public class CategoryList extends QuotesifyList<Category> {
      */
     public CategoryList(ArrayList<Category> categories) {
         super(categories);
+        indexCategoryNames();
     }
 
     /**
@@ -39,12 +50,7 @@ public class CategoryList extends QuotesifyList<Category> {
      */
     public boolean isExistingCategory(String name) {
         assert name != null;
-        for (Category category : categories) {
-            if (category.getCategoryName().equals(name)) {
-                return true;
-            }
-        }
-        return false;
+        return categoriesByName.containsKey(name);
     }
 
     /**
@@ -56,45 +62,228 @@ public class CategoryList extends QuotesifyList<Category> {
      */
     public Category getCategoryByName(String name) throws QuotesifyException {
         assert name != null;
-        for (Category category : categories) {
-            if (category.getCategoryName().equals(name)) {
-                return category;
+        Category category = categoriesByName.get(name);
+        if (category == null) {
+            throw new QuotesifyException("Category [" + name + "] does not exist!");
+        }
+        return category;
+    }
+
+    /**
+     * Tags a book with a category, updating both the book and the category.
+     *
+     * @param category Existing category object.
+     * @param book Book to be tagged.
+     */
+    public void addBookToCategory(Category category, Book book) {
+        book.getCategories().add(category.getCategoryName());
+        category.addBook(book);
+    }
+
+    /**
+     * Removes a category from the tags of a book, updating both the book and the category.
+     *
+     * @param category Existing category object.
+     * @param book Book tagged with the category.
+     */
+    public void removeBookFromCategory(Category category, Book book) {
+        book.getCategories().remove(category.getCategoryName());
+        category.removeBook(book);
+    }
+
+    /**
+     * Tags a quote with a category, updating both the quote and the category.
+     *
+     * @param category Existing category object.
+     * @param quote Quote to be tagged.
+     */
+    public void addQuoteToCategory(Category category, Quote quote) {
+        quote.getCategories().add(category.getCategoryName());
+        category.addQuote(quote);
+    }
+
+    /**
+     * Removes a category from the tags of a quote, updating both the quote and the category.
+     *
+     * @param category Existing category object.
+     * @param quote Quote tagged with the category.
+     */
+    public void removeQuoteFromCategory(Category category, Quote quote) {
+        quote.getCategories().remove(category.getCategoryName());
+        category.removeQuote(quote);
+    }
+
+    /**
+     * Removes a book that is no longer in the book list from all categories it is tagged with.
+     *
+     * @param book Removed book.
+     */
+    public void removeFromAllCategories(Book book) {
+        for (String categoryName : book.getCategories()) {
+            Category category = categoriesByName.get(categoryName);
+            if (category != null) {
+                category.removeBook(book);
             }
         }
-        throw new QuotesifyException("Category [" + name + "] does not exist!");
+    }
+
+    /**
+     * Removes a quote that is no longer in the quote list from all categories it is tagged with.
+     *
+     * @param quote Removed quote.
+     */
+    public void removeFromAllCategories(Quote quote) {
+        for (String categoryName : quote.getCategories()) {
+            Category category = categoriesByName.get(categoryName);
+            if (category != null) {
+                category.removeQuote(quote);
+            }
+        }
+    }
+
+    /**
+     * Renames a category, along with the tags of all books and quotes in it.
+     *
+     * @param category Existing category object.
+     * @param newName New category name.
+     */
+    public void renameCategory(Category category, String newName) {
+        String oldName = category.getCategoryName();
+        categoriesByName.remove(oldName);
+        category.setCategoryName(newName);
+        categoriesByName.put(newName, category);
+        addToSubstringIndex(category);
+        addToFuzzyIndex(category);
+        for (Book book : category.getBooks()) {
+            book.getCategories().remove(oldName);
+            book.getCategories().add(newName);
+        }
+        for (Quote quote : category.getQuotes()) {
+            quote.getCategories().remove(oldName);
+            quote.getCategories().add(newName);
+        }
+        markUpdated(category);
     }
 
     /**
      * Updates the book list and quote list of all categories.
+     * All books and quotes are grouped by category in a single pass over each list.
+     * Only needed when the lists have been loaded; afterwards, tag changes keep the categories up to date.
      */
     public void updateListsInAllCategories() {
+        indexCategoryNames();
         BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
         QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
+        HashMap<String, ArrayList<Book>> booksByCategory = groupByCategory(bookList.getList(), Book::getCategories);
+        HashMap<String, ArrayList<Quote>> quotesByCategory =
+                groupByCategory(quoteList.getList(), Quote::getCategories);
 
         for (Category category : categories) {
-            category.setBookList(bookList.filterByCategory(category.getCategoryName()));
-            category.setQuoteList(quoteList.filterByCategory(category.getCategoryName()));
+            category.setBookList(new BookList(booksByCategory.get(category.getCategoryName())));
+            category.setQuoteList(new QuoteList(quotesByCategory.get(category.getCategoryName())));
         }
     }
 
     /**
-     * Updates the book list and quote list of a specified category.
+     * Groups items by the categories in the list, keeping the order of the items within each category.
      *
-     * @param category Existing category object.
+     * @param items Books or quotes to be grouped.
+     * @param getCategories Function returning the category names of an item.
+     * @param <T> Type of item.
+     * @return Items by category name, with an entry for every category in the list.
      */
-    public void updateListsInCategory(Category category) {
-        assert category != null;
-        BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
-        QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
-        category.setBookList(bookList.filterByCategory(category.getCategoryName()));
-        category.setQuoteList(quoteList.filterByCategory(category.getCategoryName()));
+    private <T> HashMap<String, ArrayList<T>> groupByCategory(ArrayList<T> items,
+            Function<T, ArrayList<String>> getCategories) {
+        HashMap<String, ArrayList<T>> itemsByCategory = new HashMap<>();
+        for (Category category : categories) {
+            itemsByCategory.put(category.getCategoryName(), new ArrayList<>());
+        }
+
+        for (T item : items) {
+            for (String categoryName : getCategories.apply(item)) {
+                ArrayList<T> members = itemsByCategory.get(categoryName);
+                boolean isAdded = members != null && !members.isEmpty() && members.get(members.size() - 1) == item;
+                if (members != null && !isAdded) {
+                    members.add(item);
+                }
+            }
+        }
+        return itemsByCategory;
+    }
+
+    /**
+     * Indexes all categories in the list by name.
+     */
+    private void indexCategoryNames() {
+        substringIndex = null;
+        fuzzyIndex = null;
+        categoriesByName.clear();
+        for (Category category : categories) {
+            categoriesByName.putIfAbsent(category.getCategoryName(), category);
+        }
+    }
+
+    /**
+     * Returns the index of substrings of the category names, building it if needed.
+     *
+     * @return Index of categories by the substrings of their names.
+     */
+    private TrigramIndex<Category> getSubstringIndex() {
+        if (substringIndex == null) {
+            substringIndex = new TrigramIndex<>();
+            for (Category category : categories) {
+                addToSubstringIndex(category);
+            }
+        }
+        return substringIndex;
+    }
+
+    /**
+     * Adds a category to the index of substrings under its current name, if the index has been built.
+     *
+     * @param category Category that was added or renamed.
+     */
+    private void addToSubstringIndex(Category category) {
+        if (substringIndex != null) {
+            substringIndex.add(category, category.getCategoryName());
+        }
+    }
+
+    /**
+     * Returns the typo-tolerant index of the category names, building it if needed.
+     *
+     * @return Index of categories by the words of their names.
+     */
+    private FuzzyIndex<Category> getFuzzyIndex() {
+        if (fuzzyIndex == null) {
+            fuzzyIndex = new FuzzyIndex<>();
+            for (Category category : categories) {
+                addToFuzzyIndex(category);
+            }
+        }
+        return fuzzyIndex;
+    }
+
+    /**
+     * Adds a category to the typo-tolerant index under its current name, if the index has been built.
+     *
+     * @param category Category that was added or renamed.
+     */
+    private void addToFuzzyIndex(Category category) {
+        if (fuzzyIndex != null) {
+            fuzzyIndex.add(category, category.getCategoryName());
+        }
     }
 
     /**
      * Removes empty categories from the list.
      */
     public void removeEmptyCategories() {
-        categories.removeIf(category -> category.getSize() == 0);
+        for (int i = categories.size() - 1; i >= 0; i--) {
+            if (categories.get(i).getSize() == 0) {
+                delete(i);
+            }
+        }
     }
 
     /**
@@ -104,12 +293,21 @@ public class CategoryList extends QuotesifyList<Category> {
      * @return A list of categories matching the specified keyword.
      */
     public CategoryList findByKeyword(String keyword) {
-        ArrayList<Category> list = (ArrayList<Category>) categories.stream()
-                .filter(category -> category.getCategoryName().contains(keyword.toLowerCase()))
-                .collect(Collectors.toList());
+        ArrayList<Category> list = getSubstringIndex().search(keyword.toLowerCase(),
+                Comparator.comparingInt(this::getIndex));
         return new CategoryList(list);
     }
 
+    /**
+     * Finds the categories whose name is close to a keyword, allowing for typos.
+     *
+     * @param keyword user specified keyword.
+     * @return A list of matching categories, from the closest match to the furthest.
+     */
+    public CategoryList findByKeywordFuzzy(String keyword) {
+        return new CategoryList(getFuzzyIndex().search(keyword, Comparator.comparingInt(this::getIndex)));
+    }
+
     /**
      * Removes a specified category.
      *
@@ -117,27 +315,42 @@ public class CategoryList extends QuotesifyList<Category> {
      */
     public void remove(Category category) {
         assert category != null;
-        categories.remove(category);
+        int index = getIndex(category);
+        if (index >= 0) {
+            delete(index);
+        }
     }
 
     @Override
     public void add(Category category) {
         categories.add(category);
+        categoriesByName.putIfAbsent(category.getCategoryName(), category);
+        addToSubstringIndex(category);
+        addToFuzzyIndex(category);
+        recordChange(ListChange.ADD, categories.size() - 1, category);
     }
 
     @Override
     public void delete(int index) {
-        categories.remove(index);
+        Category category = categories.remove(index);
+        categoriesByName.remove(category.getCategoryName(), category);
+        if (substringIndex != null) {
+            substringIndex.remove(category);
+        }
+        if (fuzzyIndex != null) {
+            fuzzyIndex.remove(category);
+        }
+        recordChange(ListChange.DELETE, index, null);
     }
 
     @Override
     public String toString() {
-        String list = "";
+        StringBuilder list = new StringBuilder();
         int index = 0;
         for (Category category : categories) {
-            list += String.format("%d. %s\n", ++index, category.toString());
+            list.append(++index).append(". ").append(category.toString()).append("\n");
         }
-        return list;
+        return list.toString();
     }
 
     @Override
@@ -12,6 +12,7 @@ public abstract class Command {
     public static final String TAG_BOOK = "-b";
     public static final String TAG_QUOTE = "-q";
     public static final String TAG_QUOTE_REFLECTION = "-qr";
+    public static final String TAG_QUOTE_DUPLICATES = "-qd";
     public static final String TAG_RATING = "-r";
     public static final String TAG_CATEGORY = "-c";
     public static final String TAG_TODO = "-t";
@@ -56,11 +57,20 @@ public abstract class Command {
     public static final String ERROR_MISSING_CATEGORY = "Missing category name";
     public static final String ERROR_MISSING_BOOK_OR_QUOTE = "Please specify a book title or quote number!";
     public static final String ERROR_NO_REFLECTION = "The quote you selected does not have a reflection!";
+    public static final String ERROR_NO_IMPORT_FILE = "Please specify the file to import from!";
+    public static final String ERROR_IMPORT_FILE_NOT_FOUND = "There is no such file: %s";
+    public static final String ERROR_IMPORT_STOPPED = "Import stopped at row %d: %s";
+    public static final String ERROR_NO_EXPORT_FILE = "Please specify the file to export to!";
+    public static final String ERROR_UNSUPPORTED_EXPORT_FORMAT = "Only .csv, .jsonl and .md files can be exported to!";
+    public static final String ERROR_INVALID_EXPORT_FILTER = "That filter cannot be used on this list!";
+    public static final String ERROR_EXPORT_FAILED = "Exporting failed: %s";
 
     public static final String FLAG_AUTHOR = "/by";
     public static final String FLAG_REFERENCE = "/from";
     public static final String FLAG_EDIT = "/to";
     public static final String FLAG_REFLECT = "/reflect";
+    public static final String FLAG_FUZZY = "/fuzzy";
+    public static final String FLAG_RANK = "/rank";
     public static final String REFERENCE_KEYWORD = "reference";
     public static final String AUTHORNAME_KEYWORD = "authorName";
     public static final String DONE_KEYWORD = "done";
@@ -15,7 +15,8 @@ public class ExitCommand extends Command {
      */
     @Override
     public void execute(TextUi ui, Storage storage) {
-        storage.save();
+        storage.flush();
+        storage.compact();
     }
 
     /**
@@ -0,0 +1,288 @@
+package seedu.quotesify.commands;
+
+import seedu.quotesify.book.Book;
+import seedu.quotesify.exception.QuotesifyException;
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.quote.Quote;
+import seedu.quotesify.quote.QuoteParser;
+import seedu.quotesify.rating.Rating;
+import seedu.quotesify.search.SearchKey;
+import seedu.quotesify.store.AtomicFile;
+import seedu.quotesify.store.ExchangeFormat;
+import seedu.quotesify.store.ExportWriter;
+import seedu.quotesify.store.Storage;
+import seedu.quotesify.todo.ToDo;
+import seedu.quotesify.ui.TextUi;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the command to export books, quotes, ratings or tasks to a CSV, JSON Lines or Markdown file.
+ *
+ * <p>Items are written to the file one at a time as the list is walked, and the filters are checked on each
+ * item along the way, so no filtered copy of the list or text of the whole file is built in memory.</p>
+ */
+public class ExportCommand extends Command {
+    public static Logger quotesifyLogger = Logger.getLogger("QuotesifyLogger");
+
+    private static final Pattern FILTER_FLAG = Pattern.compile("\\s+(?=(" + FLAG_AUTHOR + "|" + FLAG_REFERENCE
+            + ")(\\s|$))");
+    private static final List<String> BOOK_COLUMNS = Arrays.asList("title", "author", "done", "rating",
+            "categories");
+    private static final List<String> QUOTE_COLUMNS = Arrays.asList("quote", "author", "reference", "reflection",
+            "categories");
+    private static final List<String> RATING_COLUMNS = Arrays.asList("title", "author", "rating");
+    private static final List<String> TODO_COLUMNS = Arrays.asList("task", "deadline", "done");
+
+    private final String type;
+    private final String information;
+    private String filePath;
+    private String authorKey;
+    private String referenceKey;
+    private int exportedCount = 0;
+
+    /**
+     * Constructor for the export command.
+     *
+     * @param arguments Inputs by the user.
+     */
+    public ExportCommand(String arguments) {
+        String[] details = arguments.split(" ", 2);
+
+        // if user did not provide a file, let details[1] be empty string
+        if (details.length == 1) {
+            details = new String[]{details[0], ""};
+        }
+        type = details[0];
+        information = details[1];
+    }
+
+    /**
+     * Executes the export command.
+     *
+     * @param ui Ui of the program.
+     * @param storage Storage of the program.
+     */
+    @Override
+    public void execute(TextUi ui, Storage storage) {
+        try {
+            parseInformation();
+            File file = new File(filePath);
+            ExchangeFormat format = ExchangeFormat.fromFile(file);
+            if (format == null) {
+                throw new QuotesifyException(ERROR_UNSUPPORTED_EXPORT_FORMAT);
+            }
+
+            exportList(file, format);
+            ui.printExport(exportedCount, getItemName(), filePath);
+            quotesifyLogger.log(Level.INFO, "exported " + exportedCount + " items to " + filePath);
+        } catch (QuotesifyException e) {
+            ui.printErrorMessage(e.getMessage());
+        } catch (IOException e) {
+            ui.printErrorMessage(String.format(ERROR_EXPORT_FAILED, e.getMessage()));
+            quotesifyLogger.log(Level.WARNING, "export to " + filePath + " failed");
+        }
+    }
+
+    /**
+     * Splits the user input into the file path and the filters, checking that the filters suit the list.
+     *
+     * @throws QuotesifyException If the tag is invalid, or the file path or a filter value is missing.
+     */
+    private void parseInformation() throws QuotesifyException {
+        if (getItemName() == null) {
+            throw new QuotesifyException(ERROR_INVALID_TAG);
+        }
+        String[] parts = FILTER_FLAG.split(information.trim());
+        filePath = parts[0].trim();
+        if (filePath.isEmpty() || filePath.startsWith(FLAG_AUTHOR) || filePath.startsWith(FLAG_REFERENCE)) {
+            throw new QuotesifyException(ERROR_NO_EXPORT_FILE);
+        }
+
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].startsWith(FLAG_AUTHOR)) {
+                String authorName = parts[i].substring(FLAG_AUTHOR.length()).trim();
+                if (authorName.isEmpty()) {
+                    throw new QuotesifyException(ERROR_NO_AUTHOR_NAME);
+                }
+                authorKey = SearchKey.normalize(authorName);
+            } else {
+                String reference = parts[i].substring(FLAG_REFERENCE.length()).trim();
+                if (reference.isEmpty()) {
+                    throw new QuotesifyException(QuoteParser.ERROR_MISSING_REFERENCE);
+                }
+                referenceKey = SearchKey.normalize(reference);
+            }
+        }
+
+        boolean hasInvalidFilter = (authorKey != null && type.equals(TAG_TODO))
+                || (referenceKey != null && !type.equals(TAG_QUOTE));
+        if (hasInvalidFilter) {
+            throw new QuotesifyException(ERROR_INVALID_EXPORT_FILTER);
+        }
+    }
+
+    /**
+     * Exports the list chosen by the tag.
+     *
+     * @param file File to export to.
+     * @param format Format to export in.
+     * @throws IOException If the file cannot be written.
+     */
+    private void exportList(File file, ExchangeFormat format) throws IOException {
+        switch (type) {
+        case TAG_BOOK:
+            exportItems(file, format, "Books", BOOK_COLUMNS, ListManager.getList(ListManager.BOOK_LIST),
+                    (Book book) -> isByAuthor(book.getAuthor().getNameKey()), ExportCommand::getBookRow);
+            break;
+        case TAG_QUOTE:
+            exportItems(file, format, "Quotes", QUOTE_COLUMNS, ListManager.getList(ListManager.QUOTE_LIST),
+                    (Quote quote) -> isByAuthor(quote.hasAuthor() ? quote.getAuthorKey() : null)
+                            && isFromReference(quote.hasReference() ? quote.getReferenceKey() : null),
+                    ExportCommand::getQuoteRow);
+            break;
+        case TAG_RATING:
+            exportItems(file, format, "Ratings", RATING_COLUMNS, ListManager.getList(ListManager.RATING_LIST),
+                    (Rating rating) -> isByAuthor(SearchKey.normalize(rating.getAuthor())),
+                    ExportCommand::getRatingRow);
+            break;
+        default:
+            exportItems(file, format, "Tasks", TODO_COLUMNS, ListManager.getList(ListManager.TODO_LIST),
+                    (ToDo toDo) -> true, ExportCommand::getToDoRow);
+            break;
+        }
+    }
+
+    /**
+     * Writes the items of a list that pass the filter to a file, one row at a time.
+     * The file is replaced as a whole, so it is left as it was if the export fails.
+     *
+     * @param file File to export to.
+     * @param format Format to export in.
+     * @param title Title of the items.
+     * @param columns Names of the columns.
+     * @param list List of items.
+     * @param filter Filter that items must pass to be exported.
+     * @param toRow Function that returns the values of an item, in the same order as the columns.
+     * @param <T> Type of item.
+     * @throws IOException If the file cannot be written.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void exportItems(File file, ExchangeFormat format, String title, List<String> columns,
+            QuotesifyList<?> list, Predicate<T> filter, Function<T, List<?>> toRow) throws IOException {
+        List<T> items = (List<T>) list.getList();
+        new AtomicFile(file).write(channel -> {
+            ExportWriter writer = ExportWriter.open(channel, format, columns);
+            writer.writeHeader(title);
+            for (T item : items) {
+                if (filter.test(item)) {
+                    writer.writeRow(toRow.apply(item));
+                    exportedCount++;
+                }
+            }
+            writer.flush();
+        });
+    }
+
+    /**
+     * Checks if an item passes the author filter, if any.
+     *
+     * @param itemAuthorKey Normalized author name of the item, or null if it has no author.
+     * @return True if there is no author filter or the item is by the author.
+     */
+    private boolean isByAuthor(String itemAuthorKey) {
+        return authorKey == null || authorKey.equals(itemAuthorKey);
+    }
+
+    /**
+     * Checks if a quote passes the reference filter, if any.
+     *
+     * @param itemReferenceKey Normalized reference of the quote, or null if it has no reference.
+     * @return True if there is no reference filter or the quote is from the reference.
+     */
+    private boolean isFromReference(String itemReferenceKey) {
+        return referenceKey == null || referenceKey.equals(itemReferenceKey);
+    }
+
+    /**
+     * Returns the name of the items in the list chosen by the tag.
+     *
+     * @return Name of the items, or null if the tag is not one of a list that can be exported.
+     */
+    private String getItemName() {
+        switch (type) {
+        case TAG_BOOK:
+            return "book(s)";
+        case TAG_QUOTE:
+            return "quote(s)";
+        case TAG_RATING:
+            return "rating(s)";
+        case TAG_TODO:
+            return "task(s)";
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the values of a book, in the same order as the book columns.
+     * Books that have not been rated have no rating.
+     *
+     * @param book Book to be exported.
+     * @return Values of the book.
+     */
+    private static List<?> getBookRow(Book book) {
+        return Arrays.asList(book.getTitle(), book.getAuthor().getName(), book.isDone(),
+                book.getRating() == 0 ? null : book.getRating(), book.getCategories());
+    }
+
+    /**
+     * Returns the values of a quote, in the same order as the quote columns.
+     *
+     * @param quote Quote to be exported.
+     * @return Values of the quote.
+     */
+    private static List<?> getQuoteRow(Quote quote) {
+        return Arrays.asList(quote.getQuote(), quote.hasAuthor() ? quote.getAuthorName() : null,
+                quote.getReference(), quote.getReflection(), quote.getCategories());
+    }
+
+    /**
+     * Returns the values of a rating, in the same order as the rating columns.
+     *
+     * @param rating Rating to be exported.
+     * @return Values of the rating.
+     */
+    private static List<?> getRatingRow(Rating rating) {
+        return Arrays.asList(rating.getTitle(), rating.getAuthor(), rating.getRating());
+    }
+
+    /**
+     * Returns the values of a task, in the same order as the task columns.
+     *
+     * @param toDo Task to be exported.
+     * @return Values of the task.
+     */
+    private static List<?> getToDoRow(ToDo toDo) {
+        return Arrays.asList(toDo.getName(), toDo.getDeadline(), toDo.isDone());
+    }
+
+    /**
+     * Decides if the program should be terminated.
+     *
+     * @return decision to terminate the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.quotesify.commands;
+
+import seedu.quotesify.author.Author;
+import seedu.quotesify.author.AuthorDirectory;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.exception.QuotesifyException;
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.quote.Quote;
+import seedu.quotesify.quote.QuoteList;
+import seedu.quotesify.quote.QuoteParser;
+import seedu.quotesify.store.ImportReader;
+import seedu.quotesify.store.Storage;
+import seedu.quotesify.ui.TextUi;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents the command to import books or quotes in bulk from a CSV or JSON Lines file.
+ *
+ * <p>Rows are read one at a time and checked the same way as books and quotes added by hand. Rows that are
+ * already in the list, or earlier in the file, are found through hash indexes and skipped. Valid rows are
+ * added in batches, and the data is saved once at the end rather than after every row.</p>
+ */
+public class ImportCommand extends Command {
+    public static Logger quotesifyLogger = Logger.getLogger("QuotesifyLogger");
+
+    private static final int BATCH_SIZE = 10000;
+    private static final int PROGRESS_INTERVAL = 100000;
+    private static final int MAX_SKIPPED_ROWS_SHOWN = 5;
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_AUTHOR = "author";
+    private static final String FIELD_QUOTE = "quote";
+    private static final String FIELD_REFERENCE = "reference";
+
+    private final String type;
+    private final String filePath;
+    private int addedCount = 0;
+    private int duplicateCount = 0;
+    private int invalidCount = 0;
+
+    /**
+     * Constructor for the import command.
+     *
+     * @param arguments Inputs by the user.
+     */
+    public ImportCommand(String arguments) {
+        String[] details = arguments.split(" ", 2);
+
+        // if user did not provide a file, let details[1] be empty string
+        if (details.length == 1) {
+            details = new String[]{details[0], ""};
+        }
+        type = details[0];
+        filePath = details[1].trim();
+    }
+
+    /**
+     * Executes the import command.
+     *
+     * @param ui Ui of the program.
+     * @param storage Storage of the program.
+     */
+    @Override
+    public void execute(TextUi ui, Storage storage) {
+        if (!type.equals(TAG_BOOK) && !type.equals(TAG_QUOTE)) {
+            ui.printErrorMessage(ERROR_INVALID_TAG);
+            return;
+        }
+        if (filePath.isEmpty()) {
+            ui.printErrorMessage(ERROR_NO_IMPORT_FILE);
+            return;
+        }
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            ui.printErrorMessage(String.format(ERROR_IMPORT_FILE_NOT_FOUND, filePath));
+            return;
+        }
+
+        try (ImportReader reader = ImportReader.open(file)) {
+            importRows(reader, ui);
+        } catch (IOException e) {
+            ui.printErrorMessage(e.getMessage());
+            quotesifyLogger.log(Level.WARNING, "import from " + filePath + " failed");
+        }
+
+        if (addedCount > 0) {
+            storage.compact();
+        }
+        ui.printImportSummary(addedCount, type.equals(TAG_BOOK) ? "book(s)" : "quote(s)", duplicateCount,
+                invalidCount);
+    }
+
+    /**
+     * Imports the rows of a file into the list chosen by the tag.
+     * Rows read before a malformed row are kept.
+     *
+     * @param reader Reader of the file.
+     * @param ui Ui of the program.
+     */
+    private void importRows(ImportReader reader, TextUi ui) {
+        try {
+            if (type.equals(TAG_BOOK)) {
+                importBooks(reader, ui);
+            } else {
+                importQuotes(reader, ui);
+            }
+        } catch (IOException e) {
+            ui.printErrorMessage(String.format(ERROR_IMPORT_STOPPED, reader.getRecordNumber(), e.getMessage()));
+            quotesifyLogger.log(Level.WARNING, "import stopped at row " + reader.getRecordNumber());
+        }
+    }
+
+    /**
+     * Imports the rows of a file as books.
+     *
+     * @param reader Reader of the file.
+     * @param ui Ui of the program.
+     * @throws IOException If a row is malformed or the file cannot be read.
+     */
+    private void importBooks(ImportReader reader, TextUi ui) throws IOException {
+        BookList books = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+        ArrayList<Book> batch = new ArrayList<>();
+        HashSet<String> batchKeys = new HashSet<>();
+        try {
+            for (HashMap<String, String> row = reader.nextRecord(); row != null; row = reader.nextRecord()) {
+                try {
+                    String title = getField(row, FIELD_TITLE);
+                    String authorName = getField(row, FIELD_AUTHOR);
+                    checkMissingInformation(title, authorName);
+                    String key = BookList.getTitleAndAuthorKey(title, authorName);
+                    if (books.hasBook(title, authorName) || !batchKeys.add(key)) {
+                        duplicateCount++;
+                    } else {
+                        batch.add(new Book(findAuthor(books, authorName), title));
+                    }
+                } catch (QuotesifyException e) {
+                    skipRow(reader, ui, e);
+                }
+
+                if (batch.size() == BATCH_SIZE) {
+                    addBooks(books, batch);
+                    batchKeys.clear();
+                }
+                printProgress(reader, ui);
+            }
+        } finally {
+            addBooks(books, batch);
+        }
+    }
+
+    /**
+     * Imports the rows of a file as quotes.
+     *
+     * @param reader Reader of the file.
+     * @param ui Ui of the program.
+     * @throws IOException If a row is malformed or the file cannot be read.
+     */
+    private void importQuotes(ImportReader reader, TextUi ui) throws IOException {
+        QuoteList quotes = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
+        ArrayList<Quote> batch = new ArrayList<>();
+        HashSet<String> batchKeys = new HashSet<>();
+        try {
+            for (HashMap<String, String> row = reader.nextRecord(); row != null; row = reader.nextRecord()) {
+                try {
+                    Quote quote = QuoteParser.parseFieldsIntoQuote(row.get(FIELD_QUOTE), row.get(FIELD_REFERENCE),
+                            row.get(FIELD_AUTHOR));
+                    if (quotes.isDuplicateQuote(quote) || !batchKeys.add(QuoteList.getDuplicateKey(quote))) {
+                        duplicateCount++;
+                    } else {
+                        batch.add(quote);
+                    }
+                } catch (QuotesifyException e) {
+                    skipRow(reader, ui, e);
+                }
+
+                if (batch.size() == BATCH_SIZE) {
+                    addQuotes(quotes, batch);
+                    batchKeys.clear();
+                }
+                printProgress(reader, ui);
+            }
+        } finally {
+            addQuotes(quotes, batch);
+        }
+    }
+
+    /**
+     * Adds a batch of books to the booklist, sorting it only once, and empties the batch.
+     *
+     * @param books Booklist in Quotesify.
+     * @param batch Books to be added.
+     */
+    private void addBooks(BookList books, ArrayList<Book> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        books.addAll(batch);
+        addedCount += batch.size();
+        batch.clear();
+    }
+
+    /**
+     * Adds a batch of quotes to the quote list and empties the batch.
+     *
+     * @param quotes Quote list in Quotesify.
+     * @param batch Quotes to be added.
+     */
+    private void addQuotes(QuoteList quotes, ArrayList<Quote> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        quotes.addAll(batch);
+        addedCount += batch.size();
+        batch.clear();
+    }
+
+    /**
+     * Returns the author of the books with the given name already in the booklist, or the canonical author
+     * with that name if there are none.
+     *
+     * @param books Booklist in Quotesify.
+     * @param authorName Author name of book to be added.
+     * @return Author of the book.
+     */
+    private static Author findAuthor(BookList books, String authorName) {
+        Author existingAuthor = books.findExistingAuthor(authorName);
+        return existingAuthor == null ? AuthorDirectory.intern(authorName) : existingAuthor;
+    }
+
+    /**
+     * Returns the trimmed value of a field of a row.
+     *
+     * @param row Values of the row by field name.
+     * @param field Field name.
+     * @return Trimmed value, or an empty string if the row has no such field.
+     */
+    private static String getField(HashMap<String, String> row, String field) {
+        String value = row.get(field);
+        return value == null ? "" : value.trim();
+    }
+
+    /**
+     * Checks for any missing information in a row of books.
+     *
+     * @param title Title of book to be added.
+     * @param authorName Author name of book to be added.
+     * @throws QuotesifyException If title or authorName is empty.
+     */
+    private static void checkMissingInformation(String title, String authorName) throws QuotesifyException {
+        if (title.isEmpty()) {
+            throw new QuotesifyException(ERROR_BOOK_TITLE_MISSING);
+        }
+        if (authorName.isEmpty()) {
+            throw new QuotesifyException(ERROR_NO_AUTHOR_NAME);
+        }
+    }
+
+    /**
+     * Counts a row as invalid, showing why it was skipped for the first few invalid rows only.
+     *
+     * @param reader Reader of the file.
+     * @param ui Ui of the program.
+     * @param e Error found in the row.
+     */
+    private void skipRow(ImportReader reader, TextUi ui, QuotesifyException e) {
+        invalidCount++;
+        if (invalidCount <= MAX_SKIPPED_ROWS_SHOWN) {
+            ui.printSkippedImportRow(reader.getRecordNumber(), e.getMessage());
+        }
+        quotesifyLogger.log(Level.INFO, "skipped row " + reader.getRecordNumber() + ": " + e.getMessage());
+    }
+
+    /**
+     * Shows how many rows have been read, every so many rows.
+     *
+     * @param reader Reader of the file.
+     * @param ui Ui of the program.
+     */
+    private static void printProgress(ImportReader reader, TextUi ui) {
+        if (reader.getRecordNumber() % PROGRESS_INTERVAL == 0) {
+            ui.printImportProgress(reader.getRecordNumber());
+        }
+    }
+
+    /**
+     * Decides if the program should be terminated.
+     *
+     * @return decision to terminate the program.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.quotesify.commands.add;
 
 import seedu.quotesify.author.Author;
+import seedu.quotesify.author.AuthorDirectory;
 import seedu.quotesify.book.Book;
 import seedu.quotesify.book.BookList;
 import seedu.quotesify.commands.Command;
@@ -82,7 +83,7 @@ public class AddBookCommand extends AddCommand {
 
         if (existingAuthor == null) {
             // Book is definitely unique
-            newBook = new Book(new Author(authorName), title);
+            newBook = new Book(AuthorDirectory.intern(authorName), title);
         } else {
             books.ensureNoSimilarBooks(title, existingAuthor.getName());
             newBook = new Book(existingAuthor, title);
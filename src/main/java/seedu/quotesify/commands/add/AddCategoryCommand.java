@@ -85,13 +85,12 @@ public class AddCategoryCommand extends AddCommand {
                 Category category = categoryList.getCategoryByName(categoryName);
 
                 if (bookTagCount == 1) {
-                    addCategoryToBook(category, bookNum, ui);
+                    addCategoryToBook(categoryList, category, bookNum, ui);
                 }
 
                 if (quoteTagCount == 1) {
-                    addCategoryToQuote(category, quoteNum, ui);
+                    addCategoryToQuote(categoryList, category, quoteNum, ui);
                 }
-                categoryList.updateListsInCategory(category);
             }
         } catch (QuotesifyException e) {
             quotesifyLogger.log(Level.WARNING, e.getMessage());
@@ -114,11 +113,12 @@ public class AddCategoryCommand extends AddCommand {
     /**
      * Adds a category to a book.
      *
+     * @param categoryList List of categories.
      * @param category Category object.
      * @param bookNum Book number.
      * @param ui Ui of the program.
      */
-    private void addCategoryToBook(Category category, String bookNum, TextUi ui) {
+    private void addCategoryToBook(CategoryList categoryList, Category category, String bookNum, TextUi ui) {
         // ignore this action if user did not provide book title
         if (bookNum.isEmpty()) {
             ui.printErrorMessage(ERROR_NO_BOOK_NUMBER);
@@ -136,7 +136,8 @@ public class AddCategoryCommand extends AddCommand {
                 throw new QuotesifyException(errorMessage);
             }
 
-            book.getCategories().add(category.getCategoryName());
+            categoryList.addBookToCategory(category, book);
+            bookList.markUpdated(book);
             ui.printAddCategoryToBook(book.getTitle(), category.getCategoryName());
             quotesifyLogger.log(Level.INFO, "add category to book success");
         } catch (IndexOutOfBoundsException e) {
@@ -154,11 +155,12 @@ public class AddCategoryCommand extends AddCommand {
     /**
      * Adds a category to a quote.
      *
+     * @param categoryList List of categories.
      * @param category Category object.
      * @param quoteNum Quote number.
      * @param ui Ui of the program.
      */
-    private void addCategoryToQuote(Category category, String quoteNum, TextUi ui) {
+    private void addCategoryToQuote(CategoryList categoryList, Category category, String quoteNum, TextUi ui) {
         // ignore this action if user did not provide quote number
         if (quoteNum.isEmpty()) {
             ui.printErrorMessage(ERROR_NO_QUOTE_NUMBER);
@@ -176,7 +178,8 @@ public class AddCategoryCommand extends AddCommand {
                 throw new QuotesifyException(errorMessage);
             }
 
-            quote.getCategories().add(category.getCategoryName());
+            categoryList.addQuoteToCategory(category, quote);
+            quoteList.markUpdated(quote);
             ui.printAddCategoryToQuote(quote.getQuote(), category.getCategoryName());
             quotesifyLogger.log(Level.INFO, "add category to quote success");
         } catch (IndexOutOfBoundsException e) {
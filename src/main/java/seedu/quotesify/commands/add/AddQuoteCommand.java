@@ -8,6 +8,7 @@ import seedu.quotesify.quote.QuoteParser;
 import seedu.quotesify.store.Storage;
 import seedu.quotesify.ui.TextUi;
 
+import java.util.ArrayList;
 import java.util.logging.Level;
 
 /**
@@ -51,8 +52,12 @@ public class AddQuoteCommand extends AddCommand {
                 throw new QuotesifyException(ERROR_DUPLICATE_QUOTE);
             }
 
+            ArrayList<Quote> similarQuotes = quoteList.findSimilarQuotes(quote);
             quoteList.add(quote);
             ui.printAddQuote(quote);
+            if (!similarQuotes.isEmpty()) {
+                ui.printSimilarQuotes(quoteList, similarQuotes);
+            }
             quotesifyLogger.log(Level.INFO, "add quote to quote list success");
         } catch (QuotesifyException e) {
             ui.printErrorMessage(e.getMessage());
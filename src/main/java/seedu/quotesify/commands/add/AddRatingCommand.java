@@ -1,6 +1,7 @@
 package seedu.quotesify.commands.add;
 
 import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.rating.Rating;
@@ -49,6 +50,8 @@ public class AddRatingCommand extends AddCommand {
 
             if (!isRated) {
                 bookToRate.setRating(ratingScore);
+                BookList books = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+                books.markUpdated(bookToRate);
                 ratings.add(new Rating(bookToRate, ratingScore));
                 String title = bookToRate.getTitle();
                 String author = bookToRate.getAuthor().getName();
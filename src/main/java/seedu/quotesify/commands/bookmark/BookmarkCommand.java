@@ -117,6 +117,7 @@ public class BookmarkCommand extends Command {
             ui.printAddBookmark(bookmarkToAdd);
         } else if (bookmarkToAdd != null && pageNum > -1) {
             bookmarkToAdd = updateExistingBookmark(bookmarkToAdd, pageNum);
+            bookmarks.markUpdated(bookmarkToAdd);
             ui.printUpdateBookmark(bookmarkToAdd);
         } else {
             addLogger.log(Level.INFO, "add bookmark to bookmarkList failed");
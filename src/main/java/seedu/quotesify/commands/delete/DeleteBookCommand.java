@@ -4,6 +4,7 @@ import seedu.quotesify.book.Book;
 import seedu.quotesify.book.BookList;
 import seedu.quotesify.bookmark.Bookmark;
 import seedu.quotesify.bookmark.BookmarkList;
+import seedu.quotesify.category.CategoryList;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.rating.Rating;
 import seedu.quotesify.rating.RatingList;
@@ -46,7 +47,6 @@ public class DeleteBookCommand extends DeleteCommand {
             int bookIndex = Integer.parseInt(information.trim()) - 1;
             Book book = books.getBook(bookIndex);
             String bookTitle = book.getTitle();
-            String author = book.getAuthor().getName();
 
             // clear bookmarks before deleting the entire book.
             BookmarkList bookmarks = (BookmarkList) ListManager.getList(ListManager.BOOKMARK_LIST);
@@ -55,12 +55,15 @@ public class DeleteBookCommand extends DeleteCommand {
             // delete ratings before deleting the entire book.
             RatingList ratings = (RatingList) ListManager.getList(ListManager.RATING_LIST);
             for (Rating rating : ratings.getList()) {
-                if (rating.getTitle().equals(bookTitle) && rating.getAuthor().equals(author)) {
-                    ratings.delete(ratings.getList().indexOf(rating));
+                if (rating.getBook() == book) {
+                    ratings.delete(ratings.getIndex(rating));
                     break;
                 }
             }
 
+            CategoryList categories = (CategoryList) ListManager.getList(ListManager.CATEGORY_LIST);
+            categories.removeFromAllCategories(book);
+
             books.delete(bookIndex);
             ui.printDeleteBook(book);
 
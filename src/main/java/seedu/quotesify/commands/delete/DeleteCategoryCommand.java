@@ -86,15 +86,13 @@ public class DeleteCategoryCommand extends DeleteCommand {
                 Category category = categoryList.getCategoryByName(categoryName);
 
                 if (bookTagCount == 1) {
-                    deleteCategoryFromBook(category, bookTitle, ui);
+                    deleteCategoryFromBook(categoryList, category, bookTitle, ui);
                 }
 
                 if (quoteTagCount == 1) {
-                    deleteCategoryFromQuote(category, quoteNum, ui);
+                    deleteCategoryFromQuote(categoryList, category, quoteNum, ui);
                 }
 
-                categoryList.updateListsInCategory(category);
-
                 if (category.getSize() == 0) {
                     categoryList.remove(category);
                 }
@@ -108,11 +106,12 @@ public class DeleteCategoryCommand extends DeleteCommand {
     /**
      * Deletes a category from a book.
      *
+     * @param categoryList List of categories.
      * @param category Category object.
      * @param bookIndex Book number.
      * @param ui Ui of the program.
      */
-    private void deleteCategoryFromBook(Category category, String bookIndex, TextUi ui) {
+    private void deleteCategoryFromBook(CategoryList categoryList, Category category, String bookIndex, TextUi ui) {
         // ignore this action if user did not provide book title
         if (bookIndex.isEmpty()) {
             ui.printErrorMessage(ERROR_NO_BOOK_NUMBER);
@@ -132,7 +131,8 @@ public class DeleteCategoryCommand extends DeleteCommand {
                 throw new QuotesifyException(errorMessage);
             }
 
-            categories.remove(category.getCategoryName());
+            categoryList.removeBookFromCategory(category, book);
+            bookList.markUpdated(book);
             ui.printRemoveCategoryFromBook(book.getTitle(), category.getCategoryName());
             quotesifyLogger.log(Level.INFO, "successfully removed category from book.");
         } catch (IndexOutOfBoundsException e) {
@@ -150,11 +150,12 @@ public class DeleteCategoryCommand extends DeleteCommand {
     /**
      * Deletes a category from a quote.
      *
+     * @param categoryList List of categories.
      * @param category Category object.
      * @param index Quote number.
      * @param ui Ui of the program.
      */
-    private void deleteCategoryFromQuote(Category category, String index, TextUi ui) {
+    private void deleteCategoryFromQuote(CategoryList categoryList, Category category, String index, TextUi ui) {
         // ignore this action if user did not provide quote number
         if (index.isEmpty()) {
             ui.printErrorMessage(ERROR_NO_QUOTE_NUMBER);
@@ -175,7 +176,8 @@ public class DeleteCategoryCommand extends DeleteCommand {
                 throw new QuotesifyException(errorMessage);
             }
 
-            categories.remove(category.getCategoryName());
+            categoryList.removeQuoteFromCategory(category, quote);
+            quoteList.markUpdated(quote);
             ui.printRemoveCategoryFromQuote(quote.getQuote(), category.getCategoryName());
             quotesifyLogger.log(Level.INFO, "successfully removed category from quote.");
         } catch (IndexOutOfBoundsException e) {
@@ -203,7 +205,7 @@ public class DeleteCategoryCommand extends DeleteCommand {
             name = name.toLowerCase();
             try {
                 Category category = categoryList.getCategoryByName(name);
-                deleteCategoryInBooksAndQuotes(name);
+                deleteCategoryInBooksAndQuotes(categoryList, category);
                 categoryList.remove(category);
                 ui.printRemoveCategory(name);
                 quotesifyLogger.log(Level.INFO, "successfully removed category from all books and quotes.");
@@ -215,14 +217,22 @@ public class DeleteCategoryCommand extends DeleteCommand {
     }
 
     /**
-     * Deletes a category from all books and quotes.
+     * Deletes a category from all books and quotes tagged with it.
      *
-     * @param oldCategory Category to be deleted.
+     * @param categoryList List of categories.
+     * @param category Category to be deleted.
      */
-    private void deleteCategoryInBooksAndQuotes(String oldCategory) {
+    private void deleteCategoryInBooksAndQuotes(CategoryList categoryList, Category category) {
         BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
         QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
-        bookList.filterByCategory(oldCategory).getList().forEach(book -> book.getCategories().remove(oldCategory));
-        quoteList.filterByCategory(oldCategory).getList().forEach(quote -> quote.getCategories().remove(oldCategory));
+        // copy the members first, as they are removed from the category along the way
+        new ArrayList<>(category.getBooks()).forEach(book -> {
+            categoryList.removeBookFromCategory(category, book);
+            bookList.markUpdated(book);
+        });
+        new ArrayList<>(category.getQuotes()).forEach(quote -> {
+            categoryList.removeQuoteFromCategory(category, quote);
+            quoteList.markUpdated(quote);
+        });
     }
 }
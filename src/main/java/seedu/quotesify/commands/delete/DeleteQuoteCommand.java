@@ -1,5 +1,6 @@
 package seedu.quotesify.commands.delete;
 
+import seedu.quotesify.category.CategoryList;
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.quote.Quote;
@@ -45,6 +46,8 @@ public class DeleteQuoteCommand extends DeleteCommand {
         try {
             int quoteNumber = getQuoteNumberToDelete(information);
             Quote quoteToBeDeleted = quoteList.getQuote(quoteNumber);
+            CategoryList categories = (CategoryList) ListManager.getList(ListManager.CATEGORY_LIST);
+            categories.removeFromAllCategories(quoteToBeDeleted);
             quoteList.delete(quoteNumber);
             ui.printDeleteQuote(quoteToBeDeleted.getQuote());
             quotesifyLogger.log(Level.INFO, "quote deleted successfully");
@@ -1,6 +1,7 @@
 package seedu.quotesify.commands.delete;
 
 import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.rating.Rating;
@@ -44,12 +45,14 @@ public class DeleteRatingCommand extends DeleteCommand {
             Book bookToDeleteRating = RatingParser.checkBookExists(bookIndex);
 
             bookToDeleteRating.setRating(RatingParser.UNRATED);
+            BookList books = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+            books.markUpdated(bookToDeleteRating);
             String title = bookToDeleteRating.getTitle();
             String author = bookToDeleteRating.getAuthor().getName();
 
             for (Rating rating : ratings.getList()) {
                 if (rating.getTitle().equals(title) && rating.getAuthor().equals(author)) {
-                    ratings.delete(ratings.getList().indexOf(rating));
+                    ratings.delete(ratings.getIndex(rating));
                     ui.printDeleteRating(title, author);
                     return;
                 }
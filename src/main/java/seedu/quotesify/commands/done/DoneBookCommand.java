@@ -42,6 +42,7 @@ public class DoneBookCommand extends DoneCommand {
             int bookIndex = Integer.parseInt(information.trim()) - 1;
             Book book = books.getBook(bookIndex);
             book.setDone(true);
+            books.markUpdated(book);
             ui.printDoneBook(book);
         } catch (NumberFormatException | IndexOutOfBoundsException e) {
             ui.printErrorMessage(ERROR_INVALID_BOOK_NUM);
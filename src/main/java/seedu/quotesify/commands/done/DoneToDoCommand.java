@@ -44,6 +44,7 @@ public class DoneToDoCommand extends DoneCommand {
         ToDo targetTask = toDos.find(index);
         if (targetTask != null) {
             targetTask.setDone(true);
+            toDos.markUpdated(targetTask);
             ui.printDoneToDo(targetTask);
         } else {
             System.out.println(ERROR_TODO_NOT_FOUND);
@@ -4,8 +4,6 @@ import seedu.quotesify.book.Book;
 import seedu.quotesify.book.BookList;
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
-import seedu.quotesify.rating.Rating;
-import seedu.quotesify.rating.RatingList;
 import seedu.quotesify.store.Storage;
 import seedu.quotesify.ui.TextUi;
 
@@ -58,35 +56,12 @@ public class EditBookCommand extends EditCommand {
             String authorName = book.getAuthor().getName();
 
             books.ensureNoSimilarBooks(newTitle, authorName);
-            book.setTitle(newTitle);
+            books.updateTitle(book, newTitle);
             ui.printEditBook(oldTitle, newTitle);
-
-            checkRatingForOldTitle(book, oldTitle, authorName);
-
         } catch (QuotesifyException e) {
             ui.printErrorMessage(e.getMessage());
         } catch (IndexOutOfBoundsException | NumberFormatException e) {
             ui.printErrorMessage(ERROR_INVALID_BOOK_NUM);
         }
     }
-
-    /**
-     * Checks the existence of the rating for the book using its old title.
-     *
-     * @param book Book which the rating is checked.
-     * @param oldTitle The old title of the book.
-     * @param author The author name of the book.
-     */
-    private void checkRatingForOldTitle(Book book, String oldTitle, String author) {
-        // check ratings in rating list before editing the title.
-        RatingList ratings = (RatingList) ListManager.getList(ListManager.RATING_LIST);
-        for (Rating rating : ratings.getList()) {
-            if (rating.getTitle().equals(oldTitle) && rating.getAuthor().equals(author)) {
-                int currentRatingOfBook = rating.getRating();
-                ratings.delete(ratings.getList().indexOf(rating));
-                ratings.add(new Rating(book, currentRatingOfBook));
-                break;
-            }
-        }
-    }
 }
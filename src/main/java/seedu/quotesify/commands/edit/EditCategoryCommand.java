@@ -54,8 +54,8 @@ public class EditCategoryCommand extends EditCommand {
             }
 
             Category category = categoryList.getCategoryByName(oldCategory);
-            category.setCategoryName(newCategory);
-            editCategoryInBooksAndQuotes(oldCategory, newCategory);
+            categoryList.renameCategory(category, newCategory);
+            markItemsInCategoryUpdated(category);
             ui.printEditCategory(oldCategory, newCategory);
             quotesifyLogger.log(Level.INFO, "edit category success!");
         } catch (QuotesifyException e) {
@@ -65,22 +65,14 @@ public class EditCategoryCommand extends EditCommand {
     }
 
     /**
-     * Updates the edited category to all books and quotes tagged.
+     * Records that all books and quotes tagged with the edited category have been modified.
      *
-     * @param oldCategory Old category name.
-     * @param newCategory New category name.
+     * @param category Edited category.
      */
-    public void editCategoryInBooksAndQuotes(String oldCategory, String newCategory) {
+    public void markItemsInCategoryUpdated(Category category) {
         BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
         QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
-        bookList.filterByCategory(oldCategory).getList().forEach(book -> {
-            book.getCategories().remove(oldCategory);
-            book.getCategories().add(newCategory);
-        });
-
-        quoteList.filterByCategory(oldCategory).getList().forEach(quote -> {
-            quote.getCategories().remove(oldCategory);
-            quote.getCategories().add(newCategory);
-        });
+        category.getBooks().forEach(bookList::markUpdated);
+        category.getQuotes().forEach(quoteList::markUpdated);
     }
 }
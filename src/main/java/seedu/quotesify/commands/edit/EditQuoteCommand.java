@@ -1,5 +1,6 @@
 package seedu.quotesify.commands.edit;
 
+import seedu.quotesify.category.CategoryList;
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.quote.Quote;
@@ -50,6 +51,8 @@ public class EditQuoteCommand extends EditCommand {
             Quote editedQuote = QuoteParser.getEditedQuote(information);
             assert !editedQuote.getQuote().isEmpty() : "updated quote should not be empty";
 
+            CategoryList categories = (CategoryList) ListManager.getList(ListManager.CATEGORY_LIST);
+            categories.removeFromAllCategories(oldQuote);
             quoteList.updateQuote(editedQuote, quoteNumToEdit);
             ui.printEditQuote(oldQuote, editedQuote);
             quotesifyLogger.log(Level.INFO, "quote has been edited successfully");
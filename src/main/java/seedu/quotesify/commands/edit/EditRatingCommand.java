@@ -1,6 +1,7 @@
 package seedu.quotesify.commands.edit;
 
 import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.rating.Rating;
@@ -52,6 +53,9 @@ public class EditRatingCommand extends EditCommand {
 
             bookToRate.setRating(ratingScore);
             existingRating.setRating(ratingScore);
+            BookList books = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+            books.markUpdated(bookToRate);
+            ratings.markUpdated(existingRating);
             ui.printEditRating(ratingScore, title, author);
         } catch (ArrayIndexOutOfBoundsException e) {
             quotesifyLogger.log(Level.INFO, "invalid format provided");
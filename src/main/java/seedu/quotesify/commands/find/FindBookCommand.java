@@ -44,7 +44,7 @@ public class FindBookCommand extends FindCommand {
                 throw new QuotesifyException(ERROR_MISSING_KEYWORD);
             }
 
-            BookList filteredBooks = books.findByKeyword(keyword);
+            BookList filteredBooks = isFuzzy ? books.findByKeywordFuzzy(keyword) : books.findByKeyword(keyword);
 
             if (filteredBooks.isEmpty()) {
                 throw new QuotesifyException(ERROR_NO_BOOKS_IN_LIST);
@@ -45,7 +45,9 @@ public class FindCategoryCommand extends FindCommand {
                 throw new QuotesifyException(ERROR_MISSING_KEYWORD);
             }
 
-            CategoryList searchResult = categoryList.findByKeyword(keyword);
+            CategoryList searchResult = isFuzzy
+                    ? categoryList.findByKeywordFuzzy(keyword)
+                    : categoryList.findByKeyword(keyword);
             if (searchResult.getList().isEmpty()) {
                 throw new QuotesifyException(ERROR_NO_MATCHING_CATEGORY);
             }
@@ -15,6 +15,7 @@ public class FindCommand extends Command {
 
     public String type;
     public String information;
+    public boolean isFuzzy;
     private String arguments;
 
     /**
@@ -32,6 +33,13 @@ public class FindCommand extends Command {
         }
         type = details[0];
         information = details[1];
+
+        /** a trailing fuzzy flag asks for matches that allow for typos */
+        String trimmedInformation = information.trim();
+        if (trimmedInformation.equals(FLAG_FUZZY) || trimmedInformation.endsWith(" " + FLAG_FUZZY)) {
+            isFuzzy = true;
+            information = trimmedInformation.substring(0, trimmedInformation.length() - FLAG_FUZZY.length()).trim();
+        }
     }
 
     /**
@@ -60,7 +68,6 @@ public class FindCommand extends Command {
             ui.printListOfFindCommands();
             break;
         }
-        storage.save();
     }
 
     /**
@@ -2,6 +2,8 @@ package seedu.quotesify.commands.find;
 
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.lists.QueryResult;
+import seedu.quotesify.quote.Quote;
 import seedu.quotesify.quote.QuoteList;
 import seedu.quotesify.store.Storage;
 import seedu.quotesify.ui.TextUi;
@@ -12,6 +14,7 @@ import java.util.logging.Level;
  *  Represents the find quote command.
  */
 public class FindQuoteCommand extends FindCommand {
+    private boolean isRanked;
 
     /**
      * Constructor for the find quote command.
@@ -20,6 +23,12 @@ public class FindQuoteCommand extends FindCommand {
      */
     public FindQuoteCommand(String arguments) {
         super(arguments);
+
+        /** a trailing rank flag asks for quotes containing every word, most relevant first */
+        if (information.equals(FLAG_RANK) || information.endsWith(" " + FLAG_RANK)) {
+            isRanked = true;
+            information = information.substring(0, information.length() - FLAG_RANK.length()).trim();
+        }
     }
 
     /**
@@ -31,7 +40,6 @@ public class FindQuoteCommand extends FindCommand {
     public void execute(TextUi ui, Storage storage) {
         QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
         findQuote(quoteList, ui);
-        storage.save();
     }
 
     /**
@@ -46,7 +54,14 @@ public class FindQuoteCommand extends FindCommand {
             if (keyword.isEmpty()) {
                 throw new QuotesifyException(ERROR_FIND_KEYWORD_MISSING);
             }
-            String findResultList = quoteList.findQuoteByKeyword(keyword);
+            QueryResult<Quote> findResultList;
+            if (isFuzzy) {
+                findResultList = quoteList.findQuoteByKeywordFuzzy(keyword);
+            } else if (isRanked) {
+                findResultList = quoteList.findQuoteByKeywordRanked(keyword);
+            } else {
+                findResultList = quoteList.findQuoteByKeyword(keyword);
+            }
 
             if (findResultList.isEmpty()) {
                 ui.printFindQuoteFail();
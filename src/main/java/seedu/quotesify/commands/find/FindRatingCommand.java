@@ -1,5 +1,6 @@
 package seedu.quotesify.commands.find;
 
+import seedu.quotesify.book.BookList;
 import seedu.quotesify.exception.QuotesifyException;
 import seedu.quotesify.lists.ListManager;
 import seedu.quotesify.rating.Rating;
@@ -8,6 +9,7 @@ import seedu.quotesify.rating.RatingParser;
 import seedu.quotesify.store.Storage;
 import seedu.quotesify.ui.TextUi;
 
+import java.util.ArrayList;
 import java.util.logging.Level;
 
 /**
@@ -49,19 +51,17 @@ public class FindRatingCommand extends FindCommand {
         }
 
         assert information != null : "keyword should not be null";
-        String keyword = information.toLowerCase().trim();
-
-        boolean isFound = false;
-        for (Rating rating : ratings.getList()) {
-            if (rating.getTitle().toLowerCase().contains(keyword)) {
-                isFound = true;
-                break;
-            }
+        ArrayList<Rating> foundRatings;
+        if (isFuzzy) {
+            BookList books = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+            foundRatings = ratings.findByKeywordFuzzy(information, books);
+        } else {
+            foundRatings = ratings.findByKeyword(information);
         }
-        if (!isFound) {
+        if (foundRatings.isEmpty()) {
             quotesifyLogger.log(Level.INFO, "ratings not found");
             throw new QuotesifyException(ERROR_RATING_NOT_FOUND);
         }
-        ui.printFoundRating(ratings, keyword);
+        ui.printFoundRating(foundRatings);
     }
 }
@@ -37,7 +37,6 @@ public class ListCategoryCommand extends ListCommand {
      * @param ui Ui of the program.
      */
     private void listCategories(CategoryList categoryList, TextUi ui) {
-        categoryList.updateListsInAllCategories();
         categoryList.removeEmptyCategories();
         if ((information.isEmpty())) {
             listAllCategories(categoryList, ui);
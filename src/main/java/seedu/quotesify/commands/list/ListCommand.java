@@ -64,6 +64,9 @@ public class ListCommand extends Command {
         case TAG_QUOTE_REFLECTION:
             new ListQuoteReflection(arguments).execute(ui, storage);
             break;
+        case TAG_QUOTE_DUPLICATES:
+            new ListQuoteDuplicatesCommand(arguments).execute(ui, storage);
+            break;
         case TAG_BOOK:
             new ListBookCommand(arguments).execute(ui, storage);
             break;
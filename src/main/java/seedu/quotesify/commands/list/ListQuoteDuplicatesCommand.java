@@ -0,0 +1,48 @@
+package seedu.quotesify.commands.list;
+
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.quote.Quote;
+import seedu.quotesify.quote.QuoteList;
+import seedu.quotesify.store.Storage;
+import seedu.quotesify.ui.TextUi;
+
+import java.util.ArrayList;
+import java.util.logging.Level;
+
+/**
+ * Represents the list duplicate quotes command.
+ */
+public class ListQuoteDuplicatesCommand extends ListCommand {
+
+    /**
+     * Constructor for the list duplicate quotes command.
+     *
+     * @param arguments User input argument.
+     */
+    public ListQuoteDuplicatesCommand(String arguments) {
+        super(arguments);
+    }
+
+    /**
+     * Executes the list duplicate quotes command.
+     *
+     * @param ui Ui of the program.
+     * @param storage Storage of the program.
+     */
+    public void execute(TextUi ui, Storage storage) {
+        QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
+        listDuplicateQuotes(quoteList, ui);
+    }
+
+    /**
+     * Lists the groups of quotes that are the same or nearly the same.
+     *
+     * @param quoteList List of quotes.
+     * @param ui Ui of the program.
+     */
+    private void listDuplicateQuotes(QuoteList quoteList, TextUi ui) {
+        ArrayList<ArrayList<Quote>> clusters = quoteList.findDuplicateClusters();
+        ui.printDuplicateQuotes(quoteList, clusters);
+        quotesifyLogger.log(Level.INFO, clusters.size() + " groups of duplicate quotes found");
+    }
+}
@@ -8,9 +8,6 @@ import seedu.quotesify.rating.RatingParser;
 import seedu.quotesify.store.Storage;
 import seedu.quotesify.ui.TextUi;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.logging.Level;
 
 /**
@@ -40,9 +37,7 @@ public class ListRatingCommand extends ListCommand {
     }
 
     private void listRatings(RatingList ratingList, TextUi ui) {
-        ArrayList<Rating> ratings = ratingList.getList();
-        ratings.sort(Comparator.comparing(Rating::getRating));
-        Collections.reverse(ratings);
+        ratingList.sort();
         if (information.isEmpty()) {
             listAllRatings(ratingList, ui);
         } else {
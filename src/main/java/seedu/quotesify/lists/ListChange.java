@@ -0,0 +1,57 @@
+package seedu.quotesify.lists;
+
+/**
+ * Represents a single change made to a quotesify list.
+ *
+ * @param <T> Quotesify model objects.
+ */
+public class ListChange<T> {
+    public static final String ADD = "add";
+    public static final String DELETE = "delete";
+    public static final String UPDATE = "update";
+    public static final String SORT = "sort";
+
+    private final String operation;
+    private final int index;
+    private final T item;
+
+    /**
+     * Constructor for a list change.
+     *
+     * @param operation Type of change made to the list.
+     * @param index Position in the list affected by the change.
+     * @param item Model object affected by the change, null if not applicable.
+     */
+    public ListChange(String operation, int index, T item) {
+        this.operation = operation;
+        this.index = index;
+        this.item = item;
+    }
+
+    /**
+     * Returns the type of change made to the list.
+     *
+     * @return Operation name.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the position in the list affected by the change.
+     *
+     * @return Index in the list.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the model object affected by the change.
+     *
+     * @return Model object, null if not applicable.
+     */
+    public T getItem() {
+        return item;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.quotesify.lists;
 
+import seedu.quotesify.author.AuthorDirectory;
 import seedu.quotesify.book.BookList;
 import seedu.quotesify.bookmark.BookmarkList;
 import seedu.quotesify.category.CategoryList;
@@ -21,11 +22,14 @@ public class ListManager {
     public static final int TODO_LIST = 5;
 
     private static HashMap<Integer, QuotesifyList<?>> listManager = new HashMap<>();
+    private static ListLoader listLoader;
 
     /**
      * Initialises a new list for all of quotesify's lists.
      */
-    public static void initialiseAllLists() {
+    public static synchronized void initialiseAllLists() {
+        listLoader = null;
+        AuthorDirectory.clear();
         listManager.put(BOOK_LIST, new BookList());
         listManager.put(BOOKMARK_LIST, new BookmarkList());
         listManager.put(CATEGORY_LIST, new CategoryList());
@@ -40,17 +44,58 @@ public class ListManager {
      * @param type List type.
      * @param list Quotesify list.
      */
-    public static void addToList(int type, QuotesifyList<?> list) {
+    public static synchronized void addToList(int type, QuotesifyList<?> list) {
         listManager.put(type, list);
     }
 
+    /**
+     * Removes all lists from the list manager, so that each one is loaded by the given loader when first requested.
+     *
+     * @param loader Loader of lists that have not been requested yet.
+     */
+    public static synchronized void initialiseLazily(ListLoader loader) {
+        listManager.clear();
+        AuthorDirectory.clear();
+        listLoader = loader;
+    }
+
+    /**
+     * Checks if a list is in the list manager, without loading it.
+     *
+     * @param type List type.
+     * @return True if the list has been loaded.
+     */
+    public static synchronized boolean isLoaded(int type) {
+        return listManager.containsKey(type);
+    }
+
     /**
      * Returns a quotesify list based on the type given.
+     * A list that has not been loaded yet is loaded first.
      *
      * @param type List type.
      * @return Quotesify list.
      */
-    public static QuotesifyList<?> getList(int type) {
-        return listManager.get(type);
+    public static synchronized QuotesifyList<?> getList(int type) {
+        QuotesifyList<?> list = listManager.get(type);
+        if (list == null && listLoader != null) {
+            list = listLoader.load(type);
+            listManager.put(type, list);
+        }
+        return list;
+    }
+
+    /**
+     * Loads a quotesify list the first time it is requested.
+     */
+    public interface ListLoader {
+        /**
+         * Loads a quotesify list based on the type given.
+         * Lists that the loaded list depends on may be requested from the list manager while loading.
+         *
+         * @param type List type.
+         * @return Quotesify list.
+         */
+        QuotesifyList<?> load(int type);
     }
 }
@@ -0,0 +1,62 @@
+package seedu.quotesify.lists;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Represents a read-only view of the items matching a query.
+ *
+ * <p>Results hold the matching items themselves rather than their rendered text, so callers can count,
+ * page through or further process them, and the text is only produced when the results are printed.</p>
+ *
+ * @param <T> Type of item in the results.
+ */
+public class QueryResult<T> extends AbstractList<T> implements RandomAccess {
+    private final List<T> items;
+
+    /**
+     * Constructor for results holding the given matching items.
+     * The items are not copied, so the list should not be changed afterwards.
+     *
+     * @param items Matching items in the order they are to be shown.
+     */
+    public QueryResult(List<T> items) {
+        this.items = items;
+    }
+
+    /**
+     * Returns the matching item at the given position.
+     *
+     * @param index Position of the item in the results.
+     * @return Matching item.
+     */
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    /**
+     * Returns the number of matching items.
+     *
+     * @return Number of items.
+     */
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Returns a page of the results without copying them.
+     *
+     * @param pageNumber Number of the page, starting from 1.
+     * @param pageSize Largest number of items on a page.
+     * @return Items on the page, which is empty if the page is past the end of the results.
+     */
+    public QueryResult<T> getPage(int pageNumber, int pageSize) {
+        assert pageNumber > 0 && pageSize > 0;
+        int start = Math.min((pageNumber - 1) * pageSize, items.size());
+        int end = Math.min(start + pageSize, items.size());
+        return new QueryResult<>(items.subList(start, end));
+    }
+}
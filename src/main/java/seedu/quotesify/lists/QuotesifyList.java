@@ -1,16 +1,21 @@
 package seedu.quotesify.lists;
 
 import org.json.simple.JSONArray;
+import seedu.quotesify.parser.JsonSerializer;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 
 /**
  * Represents all lists.
  *
  * @param <T> Quotesify model objects.
  */
-public abstract class QuotesifyList<T> {
+public abstract class QuotesifyList<T extends JsonSerializer> {
     private ArrayList<T> list;
+    private ArrayList<ListChange<T>> changes = new ArrayList<>();
+    private IdentityHashMap<T, Integer> positions = new IdentityHashMap<>();
 
     /**
      * Default constructor for quotesify list.
@@ -37,6 +42,33 @@ public abstract class QuotesifyList<T> {
         return list;
     }
 
+    /**
+     * Returns the position of a model object in the list.
+     * Positions are kept in an index by object, which is checked against the list on every lookup
+     * and rebuilt only once it is out of date, so changes made directly to the list are always picked up.
+     *
+     * @param t Model object.
+     * @return Index of the model object, or -1 if it is not in the list.
+     */
+    public int getIndex(T t) {
+        Integer position = positions.get(t);
+        if (position == null || position >= list.size() || list.get(position) != t) {
+            rebuildPositions();
+            position = positions.get(t);
+        }
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Rebuilds the index of positions from the list.
+     */
+    private void rebuildPositions() {
+        positions = new IdentityHashMap<>(list.size());
+        for (int i = list.size() - 1; i >= 0; i--) {
+            positions.put(list.get(i), i);
+        }
+    }
+
     /**
      * Adds a model object into the list.
      *
@@ -51,6 +83,77 @@ public abstract class QuotesifyList<T> {
      */
     public abstract void delete(int index);
 
+    /**
+     * Sorts the list in its natural order.
+     * Lists without a natural order are left unchanged.
+     */
+    public void sort() {
+    }
+
+    /**
+     * Records that a model object in the list has been modified in place.
+     *
+     * @param t Model object that was modified.
+     */
+    public void markUpdated(T t) {
+        int index = getIndex(t);
+        if (index >= 0) {
+            recordChange(ListChange.UPDATE, index, t);
+        }
+    }
+
+    /**
+     * Sorts the list by the given order, recording the sort only if it changed the order of the list.
+     * Items that are equal in the order keep their positions, so sorting a sorted list changes nothing.
+     *
+     * @param order Order to sort the list by.
+     */
+    protected void sortBy(Comparator<? super T> order) {
+        for (int i = 1; i < list.size(); i++) {
+            if (order.compare(list.get(i - 1), list.get(i)) > 0) {
+                list.sort(order);
+                recordChange(ListChange.SORT, 0, null);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Records a change made to the list since it was last saved.
+     *
+     * @param operation Type of change.
+     * @param index Position in the list affected by the change.
+     * @param t Model object affected by the change, null if not applicable.
+     */
+    protected void recordChange(String operation, int index, T t) {
+        changes.add(new ListChange<>(operation, index, t));
+    }
+
+    /**
+     * Returns the changes made to the list since it was last saved, in the order they were made.
+     *
+     * @return List of changes.
+     */
+    public ArrayList<ListChange<T>> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Checks if the list has changed since it was last saved.
+     *
+     * @return True if there are unsaved changes.
+     */
+    public boolean isDirty() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Forgets all recorded changes, usually after they have been saved.
+     */
+    public void clearChanges() {
+        changes.clear();
+    }
+
     /**
      * Returns a JSONArray of the list.
      *
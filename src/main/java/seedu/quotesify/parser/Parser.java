@@ -7,8 +7,10 @@ import seedu.quotesify.commands.delete.DeleteCommand;
 import seedu.quotesify.commands.done.DoneCommand;
 import seedu.quotesify.commands.edit.EditCommand;
 import seedu.quotesify.commands.ExitCommand;
+import seedu.quotesify.commands.ExportCommand;
 import seedu.quotesify.commands.find.FindCommand;
 import seedu.quotesify.commands.HelpCommand;
+import seedu.quotesify.commands.ImportCommand;
 import seedu.quotesify.commands.list.ListCommand;
 
 /**
@@ -22,6 +24,8 @@ public class Parser {
     private static final String COMMAND_BOOKMARK = "bookmark";
     private static final String COMMAND_DONE = "done";
     private static final String COMMAND_FIND = "find";
+    private static final String COMMAND_IMPORT = "import";
+    private static final String COMMAND_EXPORT = "export";
     private static final String COMMAND_BYE = "bye";
     private static final String COMMAND_HELP = "help";
 
@@ -57,6 +61,10 @@ public class Parser {
             return new DoneCommand(arguments);
         case COMMAND_FIND:
             return new FindCommand(arguments);
+        case COMMAND_IMPORT:
+            return new ImportCommand(arguments);
+        case COMMAND_EXPORT:
+            return new ExportCommand(arguments);
         case COMMAND_BYE:
             return new ExitCommand();
         case COMMAND_HELP:
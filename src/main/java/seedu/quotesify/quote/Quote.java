@@ -3,6 +3,7 @@ package seedu.quotesify.quote;
 import org.json.simple.JSONObject;
 import seedu.quotesify.author.Author;
 import seedu.quotesify.parser.JsonSerializer;
+import seedu.quotesify.search.SearchKey;
 
 import java.util.ArrayList;
 
@@ -17,6 +18,8 @@ public class Quote implements JsonSerializer {
     private ArrayList<String> categories = new ArrayList<>();
     private String reference;
     private String reflection;
+    private String quoteKey;
+    private String referenceKey;
 
     /**
      * Constructor for quote.
@@ -103,6 +106,18 @@ public class Quote implements JsonSerializer {
         return quote;
     }
 
+    /**
+     * Returns the normalized quote string the quote is searched by, which is computed once.
+     *
+     * @return Normalized quote.
+     */
+    public String getQuoteKey() {
+        if (quoteKey == null) {
+            quoteKey = SearchKey.normalize(quote);
+        }
+        return quoteKey;
+    }
+
     /**
      * Returns the author object of the quote.
      *
@@ -121,6 +136,15 @@ public class Quote implements JsonSerializer {
         return author.getName();
     }
 
+    /**
+     * Returns the normalized author name the quote is searched by.
+     *
+     * @return Normalized author name.
+     */
+    public String getAuthorKey() {
+        return author.getNameKey();
+    }
+
     /**
      * Checks if the quote has an author.
      *
@@ -143,6 +167,18 @@ public class Quote implements JsonSerializer {
         return reference;
     }
 
+    /**
+     * Returns the normalized reference title the quote is searched by, which is computed once.
+     *
+     * @return Normalized reference title.
+     */
+    public String getReferenceKey() {
+        if (referenceKey == null) {
+            referenceKey = SearchKey.normalize(reference);
+        }
+        return referenceKey;
+    }
+
     /**
      * Checks if the quote has a reference title.
      *
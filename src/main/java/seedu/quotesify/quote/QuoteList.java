@@ -2,9 +2,19 @@ package seedu.quotesify.quote;
 
 import org.json.simple.JSONArray;
 import seedu.quotesify.exception.QuotesifyException;
+import seedu.quotesify.lists.ListChange;
+import seedu.quotesify.lists.QueryResult;
 import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.search.FuzzyIndex;
+import seedu.quotesify.search.InvertedIndex;
+import seedu.quotesify.search.MinHashIndex;
+import seedu.quotesify.search.SearchKey;
+import seedu.quotesify.search.TrigramIndex;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -13,9 +23,16 @@ import java.util.stream.Collectors;
  */
 public class QuoteList extends QuotesifyList<Quote> {
     private ArrayList<Quote> quotes = super.getList();
+    private HashMap<String, ArrayList<Quote>> quotesByAuthor;
+    private InvertedIndex<Quote> textIndex;
+    private TrigramIndex<Quote> substringIndex;
+    private FuzzyIndex<Quote> fuzzyIndex;
+    private HashMap<String, Integer> duplicateKeyCounts;
+    private MinHashIndex<Quote> similarityIndex;
     public static final String DEFAULT_QUOTE = "Better days are coming, they are called Saturday and Sunday.";
     public static final String ERROR_REFLECTION_EXIST = "Quote already has a reflection. "
             + "Please use the edit command instead.";
+    public static final double SIMILAR_QUOTE_THRESHOLD = 0.7;
 
     /**
      * Default constructor fot quote list.
@@ -53,17 +70,6 @@ public class QuoteList extends QuotesifyList<Quote> {
         return quotes.size();
     }
 
-    /**
-     * Returns the index of a given quote.
-     *
-     * @param quote Quote object.
-     * @return Index of the quote in the quote list.
-     */
-    public int getIndex(Quote quote) {
-        assert quote != null;
-        return quotes.indexOf(quote);
-    }
-
     /**
      * Updates a specified quote with a new quote.
      *
@@ -76,7 +82,23 @@ public class QuoteList extends QuotesifyList<Quote> {
         if (quotes.get(index).getReflection() != null)  {
             updatedQuote.setReflection(quotes.get(index).getReflection());
         }
-        quotes.set(index, updatedQuote);
+        Quote oldQuote = quotes.set(index, updatedQuote);
+        quotesByAuthor = null;
+        removeFromDuplicateIndexes(oldQuote);
+        addToDuplicateIndexes(updatedQuote);
+        if (textIndex != null) {
+            textIndex.remove(oldQuote);
+            addToTextIndex(updatedQuote);
+        }
+        if (substringIndex != null) {
+            substringIndex.remove(oldQuote);
+            addToSubstringIndex(updatedQuote);
+        }
+        if (fuzzyIndex != null) {
+            fuzzyIndex.remove(oldQuote);
+            addToFuzzyIndex(updatedQuote);
+        }
+        recordChange(ListChange.UPDATE, index, updatedQuote);
     }
 
     /**
@@ -95,6 +117,8 @@ public class QuoteList extends QuotesifyList<Quote> {
         }
         quote.setReflection(reflection);
         quotes.set(index, quote);
+        addToTextIndex(quote);
+        recordChange(ListChange.UPDATE, index, quote);
     }
 
     /**
@@ -105,6 +129,8 @@ public class QuoteList extends QuotesifyList<Quote> {
     public void deleteReflection(int index) {
         assert getQuote(index).getReflection() != null;
         quotes.get(index).setReflectionNull();
+        addToTextIndex(quotes.get(index));
+        recordChange(ListChange.UPDATE, index, quotes.get(index));
     }
 
     /**
@@ -117,43 +143,74 @@ public class QuoteList extends QuotesifyList<Quote> {
         assert !editedReflection.isEmpty();
         assert getQuote(index).getReflection() != null;
         quotes.get(index).setReflection(editedReflection);
+        addToTextIndex(quotes.get(index));
+        recordChange(ListChange.UPDATE, index, quotes.get(index));
     }
 
     /**
-     * Compares the argument quote with all quotes in the list for duplicates.
+     * Checks if the argument quote is already in the list.
+     * Quotes are the same if they have the same words, regardless of case, spacing and punctuation.
      *
      * @param newQuote Quote to be compared with.
      * @return True if same quote is found in the quote list, false otherwise.
      */
     public boolean isDuplicateQuote(Quote newQuote) {
-        for (Quote quote : getList()) {
-            String quoteToCheck = newQuote.getQuote().toLowerCase();
-            if (quote.getQuote().toLowerCase().equals(quoteToCheck)) {
-                return true;
-            }
-        }
-        return false;
+        return getDuplicateKeyCounts().containsKey(getDuplicateKey(newQuote));
+    }
+
+    /**
+     * Finds the quotes in the list whose text is nearly the same as the argument quote.
+     *
+     * @param newQuote Quote to be compared with.
+     * @return Similar quotes in list order.
+     */
+    public ArrayList<Quote> findSimilarQuotes(Quote newQuote) {
+        return getSimilarityIndex().findSimilar(getDuplicateKey(newQuote), SIMILAR_QUOTE_THRESHOLD,
+                Comparator.comparingInt(this::getIndex));
+    }
+
+    /**
+     * Groups the quotes whose text is the same or nearly the same.
+     *
+     * @return Groups of at least two similar quotes, each in list order.
+     */
+    public ArrayList<ArrayList<Quote>> findDuplicateClusters() {
+        return getSimilarityIndex().findClusters(SIMILAR_QUOTE_THRESHOLD, Comparator.comparingInt(this::getIndex));
     }
 
     /**
      * Find all matching quotes from a keyword.
+     * Quotes whose text, reference or author contain the keyword, even as part of a word, are returned in list
+     * order, found through an index of their substrings.
      *
      * @param keyword User specified keyword.
-     * @return A list of quotes matching the specified keyword.
+     * @return Quotes matching the specified keyword.
      */
-    public String findQuoteByKeyword(String keyword) {
-        String listToReturn = "";
-        int matchCounter = 0;
-        for (Quote quote : quotes) {
-            if (quote.getQuote().toLowerCase().contains(keyword)) {
-                listToReturn += (++matchCounter + ". " + quote.toString() + System.lineSeparator());
-            } else if (quote.hasReference() && quote.getReference().toLowerCase().contains(keyword)) {
-                listToReturn += (++matchCounter + ". " + quote.toString() + System.lineSeparator());
-            } else if (quote.hasAuthor() && quote.getAuthorName().toLowerCase().contains(keyword)) {
-                listToReturn += (++matchCounter + ". " + quote.toString() + System.lineSeparator());
-            }
-        }
-        return listToReturn.trim();
+    public QueryResult<Quote> findQuoteByKeyword(String keyword) {
+        return new QueryResult<>(getSubstringIndex().search(SearchKey.normalize(keyword),
+                Comparator.comparingInt(this::getIndex)));
+    }
+
+    /**
+     * Finds the quotes containing every word of a keyword in their text, reference, author or reflection,
+     * ranked by relevance.
+     *
+     * @param keyword User specified keyword.
+     * @return Matching quotes, from the most relevant to the least.
+     */
+    public QueryResult<Quote> findQuoteByKeywordRanked(String keyword) {
+        return new QueryResult<>(getTextIndex().search(keyword, Comparator.comparingInt(this::getIndex)));
+    }
+
+    /**
+     * Finds the quotes whose text, reference or author contain words close to every word of a keyword,
+     * allowing for typos.
+     *
+     * @param keyword User specified keyword.
+     * @return Matching quotes, from the closest match to the furthest.
+     */
+    public QueryResult<Quote> findQuoteByKeywordFuzzy(String keyword) {
+        return new QueryResult<>(getFuzzyIndex().search(keyword, Comparator.comparingInt(this::getIndex)));
     }
 
     /**
@@ -176,34 +233,27 @@ public class QuoteList extends QuotesifyList<Quote> {
      * Returns a list of quotes by a specified author.
      *
      * @param authorName User specified author name.
-     * @return List of quotes with matching author name.
+     * @return Quotes with matching author name, in list order.
      */
-    public String getQuotesByAuthor(String authorName) {
-        String listToReturn = "";
-        int quoteCounter = 0;
-        for (Quote quote : getList()) {
-            if (quote.hasAuthor() && quote.getAuthorName().toLowerCase().equals(authorName.toLowerCase())) {
-                listToReturn += (++quoteCounter + ". " + quote.toString() + System.lineSeparator());
-            }
-        }
-        return listToReturn.trim();
+    public QueryResult<Quote> getQuotesByAuthor(String authorName) {
+        return new QueryResult<>(new ArrayList<>(getQuotesByAuthorKey(SearchKey.normalize(authorName))));
     }
 
     /**
      * Returns a list of quotes from a specified reference.
      *
      * @param reference User specified reference title.
-     * @return List of quotes with matching reference title.
+     * @return Quotes with matching reference title, in list order.
      */
-    public String getQuotesByReference(String reference) {
-        String listToReturn = "";
-        int quoteCounter = 0;
+    public QueryResult<Quote> getQuotesByReference(String reference) {
+        String referenceKey = SearchKey.normalize(reference);
+        ArrayList<Quote> matches = new ArrayList<>();
         for (Quote quote : getList()) {
-            if (quote.hasReference() && quote.getReference().toLowerCase().equals(reference.toLowerCase())) {
-                listToReturn += (++quoteCounter + ". " + quote.toString() + System.lineSeparator());
+            if (quote.hasReference() && quote.getReferenceKey().equals(referenceKey)) {
+                matches.add(quote);
             }
         }
-        return listToReturn.trim();
+        return new QueryResult<>(matches);
     }
 
     /**
@@ -211,19 +261,17 @@ public class QuoteList extends QuotesifyList<Quote> {
      *
      * @param reference User specified reference title.
      * @param authorName User specified author name.
-     * @return List of quotes with matching reference title and matching author name.
+     * @return Quotes with matching reference title and matching author name, in list order.
      */
-    public String getQuotesByReferenceAndAuthor(String reference, String authorName) {
-        String listToReturn = "";
-        int quoteCounter = 0;
-        for (Quote quote : getList()) {
-            if (quote.hasReference() && quote.getReference().toLowerCase().equals(reference.toLowerCase())) {
-                if (quote.hasAuthor() && quote.getAuthorName().toLowerCase().equals(authorName.toLowerCase())) {
-                    listToReturn += (++quoteCounter + ". " + quote.toString() + System.lineSeparator());
-                }
+    public QueryResult<Quote> getQuotesByReferenceAndAuthor(String reference, String authorName) {
+        String referenceKey = SearchKey.normalize(reference);
+        ArrayList<Quote> matches = new ArrayList<>();
+        for (Quote quote : getQuotesByAuthorKey(SearchKey.normalize(authorName))) {
+            if (quote.hasReference() && quote.getReferenceKey().equals(referenceKey)) {
+                matches.add(quote);
             }
         }
-        return listToReturn.trim();
+        return new QueryResult<>(matches);
     }
 
     /**
@@ -249,6 +297,34 @@ public class QuoteList extends QuotesifyList<Quote> {
     @Override
     public void add(Quote newQuote) {
         quotes.add(newQuote);
+        addToIndex(newQuote);
+        addToTextIndex(newQuote);
+        addToSubstringIndex(newQuote);
+        addToFuzzyIndex(newQuote);
+        addToDuplicateIndexes(newQuote);
+        recordChange(ListChange.ADD, quotes.size() - 1, newQuote);
+    }
+
+    /**
+     * Adds many quotes to the end of the quote list at once.
+     * The word, substring, fuzzy and similarity indexes are dropped rather than updated one quote at a time,
+     * and are rebuilt from the quote list when next needed.
+     *
+     * @param newQuotes Quotes to be added.
+     */
+    public void addAll(Collection<Quote> newQuotes) {
+        for (Quote newQuote : newQuotes) {
+            quotes.add(newQuote);
+            addToIndex(newQuote);
+            if (duplicateKeyCounts != null) {
+                duplicateKeyCounts.merge(getDuplicateKey(newQuote), 1, Integer::sum);
+            }
+            recordChange(ListChange.ADD, quotes.size() - 1, newQuote);
+        }
+        textIndex = null;
+        substringIndex = null;
+        fuzzyIndex = null;
+        similarityIndex = null;
     }
 
     /**
@@ -258,7 +334,230 @@ public class QuoteList extends QuotesifyList<Quote> {
      */
     @Override
     public void delete(int index) {
-        quotes.remove(index);
+        Quote deletedQuote = quotes.remove(index);
+        removeFromIndex(deletedQuote);
+        if (textIndex != null) {
+            textIndex.remove(deletedQuote);
+        }
+        if (substringIndex != null) {
+            substringIndex.remove(deletedQuote);
+        }
+        if (fuzzyIndex != null) {
+            fuzzyIndex.remove(deletedQuote);
+        }
+        removeFromDuplicateIndexes(deletedQuote);
+        recordChange(ListChange.DELETE, index, null);
+    }
+
+    /**
+     * Drops the author, word, substring, fuzzy and duplicate indexes so that they are rebuilt from the quote list
+     * when next needed.
+     * Used after quotes have been changed directly in the underlying list, such as when replaying saved changes.
+     */
+    public void reindex() {
+        quotesByAuthor = null;
+        textIndex = null;
+        substringIndex = null;
+        fuzzyIndex = null;
+        duplicateKeyCounts = null;
+        similarityIndex = null;
+    }
+
+    /**
+     * Returns the index of words in the quotes, building it if needed.
+     *
+     * @return Index of quotes by the words in their text, reference, author and reflection.
+     */
+    private InvertedIndex<Quote> getTextIndex() {
+        if (textIndex == null) {
+            textIndex = new InvertedIndex<>();
+            for (Quote quote : quotes) {
+                addToTextIndex(quote);
+            }
+        }
+        return textIndex;
+    }
+
+    /**
+     * Returns the index of substrings of the quotes, building it if needed.
+     *
+     * @return Index of quotes by the substrings of their text, reference and author.
+     */
+    private TrigramIndex<Quote> getSubstringIndex() {
+        if (substringIndex == null) {
+            substringIndex = new TrigramIndex<>();
+            for (Quote quote : quotes) {
+                addToSubstringIndex(quote);
+            }
+        }
+        return substringIndex;
+    }
+
+    /**
+     * Returns the typo-tolerant index of words in the quotes, building it if needed.
+     *
+     * @return Index of quotes by the words of their text, reference and author.
+     */
+    private FuzzyIndex<Quote> getFuzzyIndex() {
+        if (fuzzyIndex == null) {
+            fuzzyIndex = new FuzzyIndex<>();
+            for (Quote quote : quotes) {
+                addToFuzzyIndex(quote);
+            }
+        }
+        return fuzzyIndex;
+    }
+
+    /**
+     * Adds a quote to the typo-tolerant index of words, if the index has been built.
+     *
+     * @param quote Quote that was added or changed.
+     */
+    private void addToFuzzyIndex(Quote quote) {
+        if (fuzzyIndex != null) {
+            fuzzyIndex.add(quote, quote.getQuoteKey(), quote.getReferenceKey(),
+                    quote.hasAuthor() ? quote.getAuthorKey() : null);
+        }
+    }
+
+    /**
+     * Returns the number of quotes with each duplicate key, counting them if needed.
+     *
+     * @return Number of quotes by duplicate key.
+     */
+    private HashMap<String, Integer> getDuplicateKeyCounts() {
+        if (duplicateKeyCounts == null) {
+            duplicateKeyCounts = new HashMap<>();
+            for (Quote quote : quotes) {
+                duplicateKeyCounts.merge(getDuplicateKey(quote), 1, Integer::sum);
+            }
+        }
+        return duplicateKeyCounts;
+    }
+
+    /**
+     * Returns the index of the quotes by the similarity of their text, building it if needed.
+     *
+     * @return Index of quotes by the MinHash signatures of their duplicate keys.
+     */
+    private MinHashIndex<Quote> getSimilarityIndex() {
+        if (similarityIndex == null) {
+            similarityIndex = new MinHashIndex<>();
+            for (Quote quote : quotes) {
+                similarityIndex.add(quote, getDuplicateKey(quote));
+            }
+        }
+        return similarityIndex;
+    }
+
+    /**
+     * Adds a quote to the exact and near duplicate indexes, if they have been built.
+     *
+     * @param quote Quote that was added or changed.
+     */
+    private void addToDuplicateIndexes(Quote quote) {
+        if (duplicateKeyCounts != null) {
+            duplicateKeyCounts.merge(getDuplicateKey(quote), 1, Integer::sum);
+        }
+        if (similarityIndex != null) {
+            similarityIndex.add(quote, getDuplicateKey(quote));
+        }
+    }
+
+    /**
+     * Removes a quote from the exact and near duplicate indexes, if they have been built.
+     *
+     * @param quote Quote that was deleted or replaced.
+     */
+    private void removeFromDuplicateIndexes(Quote quote) {
+        if (duplicateKeyCounts != null) {
+            duplicateKeyCounts.computeIfPresent(getDuplicateKey(quote),
+                    (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (similarityIndex != null) {
+            similarityIndex.remove(quote);
+        }
+    }
+
+    /**
+     * Returns the words of a quote joined by single spaces, which is the same for quotes that only differ in case,
+     * spacing or punctuation. A quote without any words is keyed by its normalized text instead.
+     *
+     * @param quote Quote to be keyed.
+     * @return Duplicate key of the quote.
+     */
+    public static String getDuplicateKey(Quote quote) {
+        String words = String.join(" ", InvertedIndex.tokenize(quote.getQuote()));
+        return words.isEmpty() ? quote.getQuoteKey() : words;
+    }
+
+    /**
+     * Adds a quote to the index of substrings, if the index has been built.
+     *
+     * @param quote Quote that was added or changed.
+     */
+    private void addToSubstringIndex(Quote quote) {
+        if (substringIndex != null) {
+            substringIndex.add(quote, quote.getQuoteKey(), quote.getReferenceKey(),
+                    quote.hasAuthor() ? quote.getAuthorKey() : null);
+        }
+    }
+
+    /**
+     * Adds a quote to the index of words with its current text, if the index has been built.
+     *
+     * @param quote Quote that was added or changed.
+     */
+    private void addToTextIndex(Quote quote) {
+        if (textIndex != null) {
+            textIndex.add(quote, quote.getQuote(), quote.getReference(),
+                    quote.hasAuthor() ? quote.getAuthorName() : null, quote.getReflection());
+        }
+    }
+
+    /**
+     * Returns the quotes by an author in list order, building the author index if needed.
+     *
+     * @param authorKey Normalized author name.
+     * @return Quotes by the author.
+     */
+    private ArrayList<Quote> getQuotesByAuthorKey(String authorKey) {
+        if (quotesByAuthor == null) {
+            quotesByAuthor = new HashMap<>();
+            for (Quote quote : quotes) {
+                addToIndex(quote);
+            }
+        }
+        return quotesByAuthor.getOrDefault(authorKey, new ArrayList<>());
+    }
+
+    /**
+     * Adds a quote to the end of the quotes by its author, if the author index has been built.
+     *
+     * @param quote Quote added to the end of the quote list.
+     */
+    private void addToIndex(Quote quote) {
+        if (quotesByAuthor != null && quote.hasAuthor()) {
+            quotesByAuthor.computeIfAbsent(quote.getAuthorKey(), key -> new ArrayList<>()).add(quote);
+        }
+    }
+
+    /**
+     * Removes a quote from the quotes by its author, if the author index has been built.
+     *
+     * @param quote Quote removed from the quote list.
+     */
+    private void removeFromIndex(Quote quote) {
+        if (quotesByAuthor == null || !quote.hasAuthor()) {
+            return;
+        }
+        ArrayList<Quote> quotesOfAuthor = quotesByAuthor.get(quote.getAuthorKey());
+        if (quotesOfAuthor != null) {
+            quotesOfAuthor.remove(quote);
+            if (quotesOfAuthor.isEmpty()) {
+                quotesByAuthor.remove(quote.getAuthorKey());
+            }
+        }
     }
 
     /**
@@ -268,11 +567,11 @@ public class QuoteList extends QuotesifyList<Quote> {
      */
     @Override
     public String toString() {
-        String quotesToReturn = "";
+        StringBuilder quotesToReturn = new StringBuilder();
         for (int i = 0; i < getSize(); i++) {
-            quotesToReturn += (i + 1 + ". " + quotes.get(i).toString()) + System.lineSeparator();
+            quotesToReturn.append(i + 1).append(". ").append(quotes.get(i).toString()).append(System.lineSeparator());
         }
-        return quotesToReturn.trim();
+        return quotesToReturn.toString().trim();
     }
 
     /**
@@ -1,6 +1,7 @@
 package seedu.quotesify.quote;
 
 import seedu.quotesify.author.Author;
+import seedu.quotesify.author.AuthorDirectory;
 import seedu.quotesify.commands.Command;
 import seedu.quotesify.exception.QuotesifyException;
 
@@ -52,6 +53,36 @@ public class QuoteParser {
         }
     }
 
+    /**
+     * Creates a Quote object from separate fields, such as those of a record in an imported file.
+     * The reference and author are optional, and are left out if they are missing or blank.
+     *
+     * @param quote Quote text.
+     * @param reference Reference title, or null if there is none.
+     * @param authorName Author name, or null if there is none.
+     * @return Quote object.
+     * @throws QuotesifyException If the quote text is missing or blank.
+     */
+    public static Quote parseFieldsIntoQuote(String quote, String reference, String authorName)
+            throws QuotesifyException {
+        if (quote == null || quote.trim().isEmpty()) {
+            throw new QuotesifyException(ERROR_MISSING_QUOTE);
+        }
+        quote = quote.trim();
+        boolean hasReference = reference != null && !reference.trim().isEmpty();
+        boolean hasAuthor = authorName != null && !authorName.trim().isEmpty();
+
+        if (hasReference && hasAuthor) {
+            return new Quote(quote, reference.trim(), AuthorDirectory.intern(authorName.trim()));
+        } else if (hasReference) {
+            return new Quote(quote, reference.trim());
+        } else if (hasAuthor) {
+            return new Quote(quote, AuthorDirectory.intern(authorName.trim()));
+        } else {
+            return new Quote(quote);
+        }
+    }
+
     /**
      * Parses user input into a quote object with no author and reference information.
      *
@@ -103,7 +134,7 @@ public class QuoteParser {
         String authorName = referenceAndAuthorName.get(Command.AUTHORNAME_KEYWORD);
 
         if (!reference.isEmpty() && !authorName.isEmpty()) {
-            Author author = new Author(authorName);
+            Author author = AuthorDirectory.intern(authorName);
             return new Quote(quote, reference, author);
         } else {
             throw new QuotesifyException(ERROR_MISSING_REFERENCE_OR_AUTHOR);
@@ -262,7 +293,7 @@ public class QuoteParser {
         assert !authorName.isEmpty() : "author field should not be empty";
         authorName = authorName.trim();
         if (!authorName.isEmpty()) {
-            return new Author(authorName);
+            return AuthorDirectory.intern(authorName);
         } else {
             throw new QuotesifyException(ERROR_MISSING_AUTHOR);
         }
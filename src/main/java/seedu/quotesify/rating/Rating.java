@@ -10,8 +10,7 @@ import seedu.quotesify.parser.JsonSerializer;
  * Represents a rating for a book.
  */
 public class Rating implements JsonSerializer {
-    private String title;
-    private String author;
+    private Book ratedBook;
     private int rating;
 
     /**
@@ -21,18 +20,44 @@ public class Rating implements JsonSerializer {
      * @param rating Rating score given to book.
      */
     public Rating(Book ratedBook, int rating) {
-        title = ratedBook.getTitle();
-        author = ratedBook.getAuthor().getName();
+        this.ratedBook = ratedBook;
         this.rating = rating;
     }
 
+    /**
+     * Returns the rated book.
+     *
+     * @return Rated book.
+     */
+    public Book getBook() {
+        return ratedBook;
+    }
+
+    /**
+     * Sets the rated book.
+     *
+     * @param ratedBook Rated book.
+     */
+    public void setBook(Book ratedBook) {
+        this.ratedBook = ratedBook;
+    }
+
     /**
      * Returns title of rated book.
      *
      * @return Title.
      */
     public String getTitle() {
-        return title;
+        return ratedBook.getTitle();
+    }
+
+    /**
+     * Returns the normalized title the rated book is searched by.
+     *
+     * @return Normalized title.
+     */
+    public String getTitleKey() {
+        return ratedBook.getTitleKey();
     }
 
     /**
@@ -41,7 +66,7 @@ public class Rating implements JsonSerializer {
      * @return Author name.
      */
     public String getAuthor() {
-        return author;
+        return ratedBook.getAuthor().getName();
     }
 
     /**
@@ -69,19 +94,19 @@ public class Rating implements JsonSerializer {
      */
     @Override
     public String toString() {
-        return "[" + title + "] by " + author + ": " + rating + " star";
+        return "[" + getTitle() + "] by " + getAuthor() + ": " + rating + " star";
     }
 
     /**
      * Returns JSON object of the rating for storage.
+     * The rated book is saved as a reference to its identifier.
      *
      * @return JSON object.
      */
     @Override
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        json.put("titleOfRatedBook", this.getTitle());
-        json.put("authorOfRatedBook", this.getAuthor());
+        json.put("book", this.getBook().getId());
         json.put("rating", this.getRating());
         return json;
     }
@@ -1,10 +1,17 @@
 package seedu.quotesify.rating;
 
 import org.json.simple.JSONArray;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
 
+import seedu.quotesify.lists.ListChange;
 import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.search.SearchKey;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 /**
  * Represents a Rating List.
@@ -36,6 +43,7 @@ public class RatingList extends QuotesifyList<Rating> {
     @Override
     public void add(Rating newRating) {
         ratings.add(newRating);
+        recordChange(ListChange.ADD, ratings.size() - 1, newRating);
     }
 
     /**
@@ -46,6 +54,82 @@ public class RatingList extends QuotesifyList<Rating> {
     @Override
     public void delete(int index) {
         ratings.remove(index);
+        recordChange(ListChange.DELETE, index, null);
+    }
+
+    /**
+     * Replaces the saved book references of all ratings with the books in the given BookList.
+     * Ratings of books that are no longer in the BookList are deleted.
+     *
+     * @param books BookList holding the rated books.
+     * @return True if any rating was saved by an older version and has to be saved again.
+     */
+    public boolean resolveBooks(BookList books) {
+        HashMap<Long, Book> booksById = books.getBooksById();
+        boolean hasOldReferences = false;
+        for (int i = ratings.size() - 1; i >= 0; i--) {
+            Rating rating = ratings.get(i);
+            Book book = books.findReferencedBook(rating.getBook(), booksById);
+            if (book == null) {
+                delete(i);
+                continue;
+            }
+            if (rating.getBook().getId() == 0) {
+                hasOldReferences = true;
+            }
+            rating.setBook(book);
+        }
+        return hasOldReferences;
+    }
+
+    /**
+     * Finds the ratings of books whose title contains a keyword.
+     *
+     * @param keyword Keyword used to find the ratings.
+     * @return Matching ratings in list order.
+     */
+    public ArrayList<Rating> findByKeyword(String keyword) {
+        String key = SearchKey.normalize(keyword);
+        ArrayList<Rating> matches = new ArrayList<>();
+        for (Rating rating : ratings) {
+            if (rating.getTitleKey().contains(key)) {
+                matches.add(rating);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the ratings of books whose title is close to a keyword, allowing for typos.
+     * The titles are searched through the typo-tolerant index of the BookList holding the rated books.
+     *
+     * @param keyword Keyword used to find the ratings.
+     * @param books BookList holding the rated books.
+     * @return Matching ratings, from the closest match to the furthest.
+     */
+    public ArrayList<Rating> findByKeywordFuzzy(String keyword, BookList books) {
+        IdentityHashMap<Book, Rating> ratingsByBook = new IdentityHashMap<>();
+        for (Rating rating : ratings) {
+            ratingsByBook.put(rating.getBook(), rating);
+        }
+
+        ArrayList<Rating> matches = new ArrayList<>();
+        for (Book book : books.findByTitleFuzzy(keyword)) {
+            Rating rating = ratingsByBook.get(book);
+            if (rating != null) {
+                matches.add(rating);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Sorts the ratings from the highest to the lowest rating score.
+     * Ratings with the same score keep their order, so listing the ratings again does not change the list.
+     */
+    @Override
+    public void sort() {
+        sortBy(Comparator.comparing(Rating::getRating).reversed());
     }
 
     /**
@@ -55,11 +139,11 @@ public class RatingList extends QuotesifyList<Rating> {
      */
     @Override
     public String toString() {
-        String ratingsToReturn = "";
+        StringBuilder ratingsToReturn = new StringBuilder();
         for (Rating rating : ratings) {
-            ratingsToReturn += rating.toString() + System.lineSeparator();
+            ratingsToReturn.append(rating.toString()).append(System.lineSeparator());
         }
-        return ratingsToReturn;
+        return ratingsToReturn.toString();
     }
 
     /**
@@ -0,0 +1,131 @@
+package seedu.quotesify.search;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+
+/**
+ * Represents a BK-tree of words, which finds the words within an edit distance of a query word.
+ *
+ * <p>Each child of a word is stored under its edit distance to that word, so by the triangle inequality a search
+ * only descends into the children whose distance is within the allowed distance of the query's own distance,
+ * and visits a small part of the tree for small distances.</p>
+ */
+public class BkTree {
+    private Node root;
+    private int size;
+
+    /**
+     * Adds a word to the tree, unless it is already in the tree.
+     *
+     * @param word Word to be added.
+     */
+    public void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = getDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     *
+     * @return Number of words.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Finds the words within an edit distance of a query word.
+     *
+     * @param word Query word.
+     * @param maxDistance Largest edit distance allowed.
+     * @return Edit distance of every word found, by word.
+     */
+    public HashMap<String, Integer> search(String word, int maxDistance) {
+        HashMap<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+
+        ArrayDeque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = getDistance(word, node.word);
+            if (distance <= maxDistance) {
+                matches.put(node.word, distance);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words, which is the least number of single character
+     * insertions, deletions and substitutions that turn one word into the other.
+     *
+     * @param first First word.
+     * @param second Second word.
+     * @return Edit distance.
+     */
+    public static int getDistance(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Represents a word in the tree along with its children by edit distance.
+     */
+    private static class Node {
+        private final String word;
+        private final HashMap<Integer, Node> children = new HashMap<>();
+
+        /**
+         * Constructor for a node holding a word.
+         *
+         * @param word Word of the node.
+         */
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.quotesify.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Represents a typo-tolerant index of items by the words of their keys.
+ *
+ * <p>The words of all keys are kept in a {@link BkTree}, so the words near each query word are found without
+ * comparing against the whole vocabulary. An item matches when every query word is near some word of one of its
+ * keys, and items are ranked by the total edit distance of the words they matched. How far a word may be from
+ * a query word grows with the length of the query word, so short words must match exactly.</p>
+ *
+ * <p>Words whose items have all been removed stay in the tree, but are skipped when searching.</p>
+ *
+ * @param <T> Type of item being indexed.
+ */
+public class FuzzyIndex<T> {
+    public static final int ALL_KEYS = -1;
+
+    private static final int NO_MATCH = -1;
+
+    private final BkTree words = new BkTree();
+    private final HashMap<String, HashMap<T, Integer>> postings = new HashMap<>();
+    private final HashMap<T, String[]> keysByItem = new HashMap<>();
+
+    /**
+     * Adds an item to the index under the words of its keys.
+     * An item that is already in the index is indexed again with its new keys.
+     *
+     * @param item Item to be added.
+     * @param keys Keys of the item, any of which may be null.
+     */
+    public void add(T item, String... keys) {
+        remove(item);
+        keysByItem.put(item, keys);
+        for (int i = 0; i < keys.length; i++) {
+            for (String word : InvertedIndex.tokenize(keys[i])) {
+                words.add(word);
+                postings.computeIfAbsent(word, k -> new HashMap<>()).merge(item, 1 << i, (a, b) -> a | b);
+            }
+        }
+    }
+
+    /**
+     * Removes an item from the index.
+     *
+     * @param item Item to be removed.
+     */
+    public void remove(T item) {
+        String[] keys = keysByItem.remove(item);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            for (String word : InvertedIndex.tokenize(key)) {
+                HashMap<T, Integer> items = postings.get(word);
+                if (items != null) {
+                    items.remove(item);
+                    if (items.isEmpty()) {
+                        postings.remove(word);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the items with a key whose words are near every word of a query, ranked from nearest to furthest.
+     *
+     * @param query Query text.
+     * @param order Order of items that are equally near.
+     * @return Matching items.
+     */
+    public ArrayList<T> search(String query, Comparator<T> order) {
+        return search(query, ALL_KEYS, order);
+    }
+
+    /**
+     * Finds the items with one of the chosen keys whose words are near every word of a query,
+     * ranked from nearest to furthest.
+     *
+     * @param query Query text.
+     * @param keyMask Bit mask of the positions of the keys to be searched, or {@link #ALL_KEYS}.
+     * @param order Order of items that are equally near.
+     * @return Matching items.
+     */
+    public ArrayList<T> search(String query, int keyMask, Comparator<T> order) {
+        HashMap<T, int[]> distances = null;
+        for (String queryWord : new LinkedHashSet<>(InvertedIndex.tokenize(query))) {
+            HashMap<T, int[]> wordDistances = getNearestDistances(queryWord, keyMask);
+            distances = distances == null ? wordDistances : addDistances(distances, wordDistances);
+            if (distances.isEmpty()) {
+                break;
+            }
+        }
+        if (distances == null) {
+            return new ArrayList<>();
+        }
+
+        HashMap<T, Integer> scores = new HashMap<>();
+        for (Map.Entry<T, int[]> item : distances.entrySet()) {
+            int score = Integer.MAX_VALUE;
+            for (int distance : item.getValue()) {
+                if (distance != NO_MATCH) {
+                    score = Math.min(score, distance);
+                }
+            }
+            if (score != Integer.MAX_VALUE) {
+                scores.put(item.getKey(), score);
+            }
+        }
+
+        ArrayList<T> matches = new ArrayList<>(scores.keySet());
+        matches.sort(Comparator.comparing((T item) -> scores.get(item)).thenComparing(order));
+        return matches;
+    }
+
+    /**
+     * Returns the distance from a query word to the nearest word in each key of the items near it.
+     *
+     * @param queryWord Query word.
+     * @param keyMask Bit mask of the positions of the keys to be searched.
+     * @return Distance by key position, or {@link #NO_MATCH}, for every item with a key near the query word.
+     */
+    private HashMap<T, int[]> getNearestDistances(String queryWord, int keyMask) {
+        HashMap<T, int[]> distances = new HashMap<>();
+        for (Map.Entry<String, Integer> word : words.search(queryWord, getMaxDistance(queryWord)).entrySet()) {
+            HashMap<T, Integer> items = postings.get(word.getKey());
+            if (items == null) {
+                continue;
+            }
+            for (Map.Entry<T, Integer> item : items.entrySet()) {
+                int[] keyDistances = distances.computeIfAbsent(item.getKey(), this::createUnmatchedDistances);
+                for (int i = 0; i < keyDistances.length; i++) {
+                    boolean isSearchedKey = (item.getValue() & keyMask & (1 << i)) != 0;
+                    if (isSearchedKey && (keyDistances[i] == NO_MATCH || word.getValue() < keyDistances[i])) {
+                        keyDistances[i] = word.getValue();
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Adds up the distances of two query words for the items near both, key by key.
+     *
+     * @param distances Distances of the earlier query words.
+     * @param wordDistances Distances of the next query word.
+     * @return Total distances by key position for the items near all the query words so far.
+     */
+    private HashMap<T, int[]> addDistances(HashMap<T, int[]> distances, HashMap<T, int[]> wordDistances) {
+        HashMap<T, int[]> totals = new HashMap<>();
+        for (Map.Entry<T, int[]> item : distances.entrySet()) {
+            int[] nextDistances = wordDistances.get(item.getKey());
+            if (nextDistances == null) {
+                continue;
+            }
+            int[] keyDistances = item.getValue();
+            for (int i = 0; i < keyDistances.length; i++) {
+                boolean isMatched = keyDistances[i] != NO_MATCH && nextDistances[i] != NO_MATCH;
+                keyDistances[i] = isMatched ? keyDistances[i] + nextDistances[i] : NO_MATCH;
+            }
+            totals.put(item.getKey(), keyDistances);
+        }
+        return totals;
+    }
+
+    /**
+     * Returns the distances of an item before any of its keys has matched.
+     *
+     * @param item Indexed item.
+     * @return One unmatched distance per key of the item.
+     */
+    private int[] createUnmatchedDistances(T item) {
+        int[] keyDistances = new int[keysByItem.get(item).length];
+        Arrays.fill(keyDistances, NO_MATCH);
+        return keyDistances;
+    }
+
+    /**
+     * Returns how far a word may be from a query word to match it.
+     *
+     * @param queryWord Query word.
+     * @return Largest edit distance allowed.
+     */
+    private static int getMaxDistance(String queryWord) {
+        if (queryWord.length() <= 2) {
+            return 0;
+        } else if (queryWord.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+}
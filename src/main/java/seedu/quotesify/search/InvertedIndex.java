@@ -0,0 +1,146 @@
+package seedu.quotesify.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Represents an inverted index from the terms in the text of items to the items containing them.
+ *
+ * <p>Items are added with one or more text fields, which are normalized and split into terms. A search returns
+ * the items containing every term of the query, ranked by TF-IDF, and only looks at the items listed under
+ * the query terms, so its cost does not grow with the number of items in the index.</p>
+ *
+ * @param <T> Type of item being indexed.
+ */
+public class InvertedIndex<T> {
+    private final HashMap<String, HashMap<T, Integer>> postings = new HashMap<>();
+    private final HashMap<T, HashMap<String, Integer>> termsByItem = new HashMap<>();
+    private final HashMap<T, Integer> lengths = new HashMap<>();
+
+    /**
+     * Adds an item to the index under the terms of its text fields.
+     * An item that is already in the index is indexed again with its new text.
+     *
+     * @param item Item to be added.
+     * @param fields Text fields of the item, any of which may be null.
+     */
+    public void add(T item, String... fields) {
+        remove(item);
+
+        HashMap<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String field : fields) {
+            for (String term : tokenize(field)) {
+                termFrequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        for (Map.Entry<String, Integer> term : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(item, term.getValue());
+        }
+        termsByItem.put(item, termFrequencies);
+        lengths.put(item, length);
+    }
+
+    /**
+     * Removes an item from the index.
+     *
+     * @param item Item to be removed.
+     */
+    public void remove(T item) {
+        HashMap<String, Integer> termFrequencies = termsByItem.remove(item);
+        if (termFrequencies == null) {
+            return;
+        }
+        for (String term : termFrequencies.keySet()) {
+            HashMap<T, Integer> items = postings.get(term);
+            items.remove(item);
+            if (items.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        lengths.remove(item);
+    }
+
+    /**
+     * Returns the number of items in the index.
+     *
+     * @return Number of items.
+     */
+    public int getSize() {
+        return termsByItem.size();
+    }
+
+    /**
+     * Finds the items containing every term of a query, ranked from most to least relevant.
+     *
+     * @param query Query text.
+     * @param tieBreaker Order of items that are equally relevant.
+     * @return Matching items, or an empty list if the query has no terms.
+     */
+    public ArrayList<T> search(String query, Comparator<T> tieBreaker) {
+        ArrayList<HashMap<T, Integer>> queryPostings = new ArrayList<>();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            HashMap<T, Integer> items = postings.get(term);
+            if (items == null) {
+                return new ArrayList<>();
+            }
+            queryPostings.add(items);
+        }
+        if (queryPostings.isEmpty()) {
+            return new ArrayList<>();
+        }
+        queryPostings.sort(Comparator.comparingInt(HashMap::size));
+
+        HashMap<T, Double> scores = new HashMap<>();
+        for (T item : queryPostings.get(0).keySet()) {
+            double score = 0;
+            for (HashMap<T, Integer> items : queryPostings) {
+                Integer frequency = items.get(item);
+                if (frequency == null) {
+                    score = -1;
+                    break;
+                }
+                double inverseDocumentFrequency = Math.log(1 + (double) getSize() / items.size());
+                score += inverseDocumentFrequency * frequency / lengths.get(item);
+            }
+            if (score >= 0) {
+                scores.put(item, score);
+            }
+        }
+
+        ArrayList<T> matches = new ArrayList<>(scores.keySet());
+        matches.sort(Comparator.comparing((T item) -> scores.get(item)).reversed().thenComparing(tieBreaker));
+        return matches;
+    }
+
+    /**
+     * Splits a text into its normalized terms, which are runs of letters and digits.
+     *
+     * @param text Text to be split.
+     * @return Terms in the order they appear, or an empty list if there is no text.
+     */
+    public static ArrayList<String> tokenize(String text) {
+        ArrayList<String> terms = new ArrayList<>();
+        String key = SearchKey.normalize(text);
+        if (key == null) {
+            return terms;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= key.length(); i++) {
+            boolean isTermCharacter = i < key.length() && Character.isLetterOrDigit(key.charAt(i));
+            if (isTermCharacter && start < 0) {
+                start = i;
+            } else if (!isTermCharacter && start >= 0) {
+                terms.add(key.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+}
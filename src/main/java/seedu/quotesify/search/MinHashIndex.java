@@ -0,0 +1,262 @@
+package seedu.quotesify.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+/**
+ * Represents an index of items by the MinHash signatures of their text, which finds items with similar text.
+ *
+ * <p>Each text is split into its three-character shingles, and its signature holds the smallest hash of those
+ * shingles under each of a fixed set of hash functions. Two texts agree on a hash with a probability equal to
+ * the Jaccard similarity of their shingles. The signature is cut into bands, and items sharing a whole band
+ * are candidates, so similar items are found without comparing every pair of items. Candidates are then
+ * checked against the exact similarity of their shingles.</p>
+ *
+ * @param <T> Type of item being indexed.
+ */
+public class MinHashIndex<T> {
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final long[] HASH_SEEDS = createHashSeeds(BANDS * ROWS_PER_BAND);
+
+    private final ArrayList<HashMap<Long, ArrayList<T>>> buckets = new ArrayList<>();
+    private final HashMap<T, HashSet<String>> shinglesByItem = new HashMap<>();
+    private final HashMap<T, long[]> bandsByItem = new HashMap<>();
+
+    /**
+     * Constructor for an empty MinHashIndex.
+     */
+    public MinHashIndex() {
+        for (int i = 0; i < BANDS; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds an item to the index under the shingles of its text.
+     * An item that is already in the index is indexed again with its new text.
+     *
+     * @param item Item to be added.
+     * @param text Normalized text of the item.
+     */
+    public void add(T item, String text) {
+        remove(item);
+        HashSet<String> shingles = getShingles(text);
+        long[] bands = getBands(shingles);
+        shinglesByItem.put(item, shingles);
+        bandsByItem.put(item, bands);
+        for (int i = 0; i < BANDS; i++) {
+            buckets.get(i).computeIfAbsent(bands[i], k -> new ArrayList<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes an item from the index.
+     *
+     * @param item Item to be removed.
+     */
+    public void remove(T item) {
+        long[] bands = bandsByItem.remove(item);
+        if (bands == null) {
+            return;
+        }
+        shinglesByItem.remove(item);
+        for (int i = 0; i < BANDS; i++) {
+            ArrayList<T> items = buckets.get(i).get(bands[i]);
+            items.remove(item);
+            if (items.isEmpty()) {
+                buckets.get(i).remove(bands[i]);
+            }
+        }
+    }
+
+    /**
+     * Finds the items whose text is at least as similar to a given text as the minimum similarity.
+     *
+     * @param text Normalized text to compare with.
+     * @param minSimilarity Smallest Jaccard similarity of shingles for an item to be similar.
+     * @param order Order the similar items are returned in.
+     * @return Similar items.
+     */
+    public ArrayList<T> findSimilar(String text, double minSimilarity, Comparator<T> order) {
+        HashSet<String> shingles = getShingles(text);
+        long[] bands = getBands(shingles);
+        HashSet<T> candidates = new HashSet<>();
+        for (int i = 0; i < BANDS; i++) {
+            candidates.addAll(buckets.get(i).getOrDefault(bands[i], new ArrayList<>()));
+        }
+
+        ArrayList<T> matches = new ArrayList<>();
+        for (T item : candidates) {
+            if (getSimilarity(shingles, shinglesByItem.get(item)) >= minSimilarity) {
+                matches.add(item);
+            }
+        }
+        matches.sort(order);
+        return matches;
+    }
+
+    /**
+     * Groups the indexed items into clusters of items with similar text.
+     * Two items are in the same cluster if they are linked by a chain of items that are similar to each other.
+     *
+     * @param minSimilarity Smallest Jaccard similarity of shingles for two items to be similar.
+     * @param order Order of the items within a cluster, and of the clusters by their first item.
+     * @return Clusters of at least two items.
+     */
+    public ArrayList<ArrayList<T>> findClusters(double minSimilarity, Comparator<T> order) {
+        IdentityHashMap<T, T> parents = new IdentityHashMap<>();
+        for (HashMap<Long, ArrayList<T>> band : buckets) {
+            for (ArrayList<T> items : band.values()) {
+                for (int i = 0; i < items.size(); i++) {
+                    for (int j = i + 1; j < items.size(); j++) {
+                        T first = findRoot(parents, items.get(i));
+                        T second = findRoot(parents, items.get(j));
+                        boolean isSimilar = first != second && getSimilarity(shinglesByItem.get(items.get(i)),
+                                shinglesByItem.get(items.get(j))) >= minSimilarity;
+                        if (isSimilar) {
+                            parents.put(first, second);
+                        }
+                    }
+                }
+            }
+        }
+
+        IdentityHashMap<T, ArrayList<T>> clustersByRoot = new IdentityHashMap<>();
+        for (T item : parents.keySet()) {
+            clustersByRoot.computeIfAbsent(findRoot(parents, item), k -> new ArrayList<>()).add(item);
+        }
+        ArrayList<ArrayList<T>> clusters = new ArrayList<>();
+        for (ArrayList<T> cluster : clustersByRoot.values()) {
+            if (cluster.size() > 1) {
+                cluster.sort(order);
+                clusters.add(cluster);
+            }
+        }
+        clusters.sort((first, second) -> order.compare(first.get(0), second.get(0)));
+        return clusters;
+    }
+
+    /**
+     * Returns the representative item of the cluster of an item, shortening the path to it along the way.
+     *
+     * @param parents Parent of each item that has been linked to another item.
+     * @param item Item whose cluster is looked up.
+     * @param <T> Type of item.
+     * @return Representative item of the cluster.
+     */
+    private static <T> T findRoot(IdentityHashMap<T, T> parents, T item) {
+        parents.putIfAbsent(item, item);
+        T root = item;
+        while (parents.get(root) != root) {
+            root = parents.get(root);
+        }
+        while (item != root) {
+            T parent = parents.get(item);
+            parents.put(item, root);
+            item = parent;
+        }
+        return root;
+    }
+
+    /**
+     * Returns the Jaccard similarity of two sets of shingles, which is the size of their intersection over the
+     * size of their union.
+     *
+     * @param first First set of shingles.
+     * @param second Second set of shingles.
+     * @return Similarity from 0 to 1.
+     */
+    public static double getSimilarity(HashSet<String> first, HashSet<String> second) {
+        if (first.isEmpty() && second.isEmpty()) {
+            return 1;
+        }
+        int sharedCount = 0;
+        for (String shingle : first) {
+            if (second.contains(shingle)) {
+                sharedCount++;
+            }
+        }
+        return (double) sharedCount / (first.size() + second.size() - sharedCount);
+    }
+
+    /**
+     * Returns the distinct three-character shingles of a text, or the text itself if it is shorter.
+     *
+     * @param text Normalized text.
+     * @return Shingles of the text.
+     */
+    public static HashSet<String> getShingles(String text) {
+        HashSet<String> shingles = new HashSet<>();
+        if (text.length() < SHINGLE_LENGTH) {
+            if (!text.isEmpty()) {
+                shingles.add(text);
+            }
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_LENGTH <= text.length(); i++) {
+            shingles.add(text.substring(i, i + SHINGLE_LENGTH));
+        }
+        return shingles;
+    }
+
+    /**
+     * Returns the bands of the MinHash signature of a set of shingles, each combined into a single hash.
+     *
+     * @param shingles Shingles of a text.
+     * @return Hash of each band.
+     */
+    private static long[] getBands(HashSet<String> shingles) {
+        long[] signature = new long[HASH_SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String shingle : shingles) {
+            int shingleHash = shingle.hashCode();
+            for (int i = 0; i < HASH_SEEDS.length; i++) {
+                signature[i] = Math.min(signature[i], mix(shingleHash ^ HASH_SEEDS[i]));
+            }
+        }
+
+        long[] bands = new long[BANDS];
+        for (int i = 0; i < BANDS; i++) {
+            long bandHash = i;
+            for (int j = 0; j < ROWS_PER_BAND; j++) {
+                bandHash = bandHash * 31 + signature[i * ROWS_PER_BAND + j];
+            }
+            bands[i] = bandHash;
+        }
+        return bands;
+    }
+
+    /**
+     * Scrambles the bits of a value, so that each seed gives an independent hash function.
+     *
+     * @param value Value to be scrambled.
+     * @return Hash of the value.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * Returns fixed seeds for the hash functions, so that signatures are the same on every run.
+     *
+     * @param count Number of hash functions.
+     * @return Seed of each hash function.
+     */
+    private static long[] createHashSeeds(int count) {
+        Random random = new Random(count);
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = random.nextLong();
+        }
+        return seeds;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.quotesify.search;
+
+/**
+ * Normalizes text into the keys that titles, names and quotes are searched and compared by.
+ */
+public class SearchKey {
+
+    /**
+     * Returns the normalized form of a text, which is in lower case with leading and trailing whitespace removed
+     * and every run of whitespace collapsed into a single space.
+     *
+     * @param text Text to be normalized.
+     * @return Normalized text, or null if there is no text.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(text.length());
+        boolean isAfterWhitespace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isAfterWhitespace = key.length() > 0;
+            } else {
+                if (isAfterWhitespace) {
+                    key.append(' ');
+                    isAfterWhitespace = false;
+                }
+                key.append(c);
+            }
+        }
+        return key.toString().toLowerCase();
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.quotesify.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+/**
+ * Represents an index of items by the three-character substrings of their keys, which answers substring queries.
+ *
+ * <p>A query of at least three characters only looks at the items containing every trigram of the query, then
+ * checks that one of their keys really contains the query, so the results are exactly those of a scan with
+ * {@link String#contains}. Shorter queries have no trigrams and are checked against every item.
+ * Keys and queries are matched as given, so callers normalize both the same way.</p>
+ *
+ * @param <T> Type of item being indexed.
+ */
+public class TrigramIndex<T> {
+    private static final int GRAM_LENGTH = 3;
+
+    private final HashMap<String, HashSet<T>> postings = new HashMap<>();
+    private final HashMap<T, String[]> keysByItem = new HashMap<>();
+
+    /**
+     * Adds an item to the index under the trigrams of its keys.
+     * An item that is already in the index is indexed again with its new keys.
+     *
+     * @param item Item to be added.
+     * @param keys Keys of the item, any of which may be null.
+     */
+    public void add(T item, String... keys) {
+        remove(item);
+        keysByItem.put(item, keys);
+        for (String gram : getTrigrams(keys)) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(item);
+        }
+    }
+
+    /**
+     * Removes an item from the index.
+     *
+     * @param item Item to be removed.
+     */
+    public void remove(T item) {
+        String[] keys = keysByItem.remove(item);
+        if (keys == null) {
+            return;
+        }
+        for (String gram : getTrigrams(keys)) {
+            HashSet<T> items = postings.get(gram);
+            items.remove(item);
+            if (items.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Finds the items with a key containing the query.
+     *
+     * @param query Substring to be found.
+     * @param order Order the matching items are returned in.
+     * @return Matching items.
+     */
+    public ArrayList<T> search(String query, Comparator<T> order) {
+        ArrayList<T> matches = new ArrayList<>();
+        for (T item : getCandidates(query)) {
+            if (hasKeyContaining(keysByItem.get(item), query)) {
+                matches.add(item);
+            }
+        }
+        matches.sort(order);
+        return matches;
+    }
+
+    /**
+     * Returns the items that may contain the query, which are those containing every trigram of the query.
+     *
+     * @param query Substring to be found.
+     * @return Candidate items.
+     */
+    private Iterable<T> getCandidates(String query) {
+        LinkedHashSet<String> grams = getTrigrams(query);
+        if (grams.isEmpty()) {
+            return keysByItem.keySet();
+        }
+
+        ArrayList<HashSet<T>> queryPostings = new ArrayList<>();
+        for (String gram : grams) {
+            HashSet<T> items = postings.get(gram);
+            if (items == null) {
+                return new ArrayList<>();
+            }
+            queryPostings.add(items);
+        }
+        queryPostings.sort(Comparator.comparingInt(HashSet::size));
+
+        ArrayList<T> candidates = new ArrayList<>();
+        for (T item : queryPostings.get(0)) {
+            if (queryPostings.stream().allMatch(items -> items.contains(item))) {
+                candidates.add(item);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks if any of the keys contains the query.
+     *
+     * @param keys Keys of an item, any of which may be null.
+     * @param query Substring to be found.
+     * @return True if a key contains the query.
+     */
+    private static boolean hasKeyContaining(String[] keys, String query) {
+        for (String key : keys) {
+            if (key != null && key.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct trigrams of some texts.
+     *
+     * @param texts Texts to be split, any of which may be null.
+     * @return Trigrams of the texts.
+     */
+    private static LinkedHashSet<String> getTrigrams(String... texts) {
+        LinkedHashSet<String> grams = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.quotesify.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents a file whose contents are replaced as a whole, so that it is never left partly written.
+ *
+ * <p>New contents are written to a temporary file next to it, forced to disk and then renamed over the file.
+ * A rename within a directory is atomic, so after a crash the file holds either its old or its new contents.
+ * The previous contents can also be kept in a backup file, to fall back on if the file turns out to be
+ * corrupted.</p>
+ */
+public class AtomicFile {
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String BACKUP_EXTENSION = ".bak";
+
+    private static boolean isDirectorySyncSupported = true;
+
+    private final File file;
+    private final File tempFile;
+    private final File backupFile;
+    private final boolean isBackedUp;
+
+    /**
+     * Constructor for atomic file without a backup.
+     *
+     * @param file File to be replaced on every write.
+     */
+    public AtomicFile(File file) {
+        this(file, false);
+    }
+
+    /**
+     * Constructor for atomic file.
+     *
+     * @param file File to be replaced on every write.
+     * @param isBackedUp Whether the previous contents are kept in a backup file on every write.
+     */
+    public AtomicFile(File file, boolean isBackedUp) {
+        this.file = file;
+        this.tempFile = new File(file.getPath() + TEMP_EXTENSION);
+        this.backupFile = new File(file.getPath() + BACKUP_EXTENSION);
+        this.isBackedUp = isBackedUp;
+    }
+
+    /**
+     * Returns the file holding the previous contents.
+     *
+     * @return Backup file, which may not exist.
+     */
+    public File getBackupFile() {
+        return backupFile;
+    }
+
+    /**
+     * Replaces the contents of the file with the contents written to a channel.
+     * If the contents cannot be written, the file is left as it was.
+     *
+     * @param contentWriter Writer of the new contents, which flushes but does not close the channel.
+     * @throws IOException If the new contents cannot be written or the file cannot be replaced.
+     */
+    public void write(ContentWriter contentWriter) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            contentWriter.write(channel);
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile.toPath());
+            throw e;
+        }
+
+        if (isBackedUp && file.length() > 0) {
+            Files.move(file.toPath(), backupFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    /**
+     * Recovers from a write that was interrupted by a crash.
+     * A leftover temporary file is deleted, as it may be incomplete, and the backup is put back if the
+     * file itself is missing.
+     *
+     * @throws IOException If the backup cannot be put back.
+     */
+    public void recover() throws IOException {
+        Files.deleteIfExists(tempFile.toPath());
+        if (!file.exists() && backupFile.exists()) {
+            Files.move(backupFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Forces the renames in the directory of the file to disk.
+     * Platforms that cannot open a directory make renames durable on their own, so it is not tried again there.
+     */
+    private void syncDirectory() {
+        if (!isDirectorySyncSupported) {
+            return;
+        }
+        File directory = file.getAbsoluteFile().getParentFile();
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            isDirectorySyncSupported = false;
+        }
+    }
+
+    /**
+     * Writes the new contents of a file.
+     */
+    public interface ContentWriter {
+        /**
+         * Writes the new contents to a channel, flushing any buffered output without closing the channel.
+         *
+         * @param channel Channel to the temporary file.
+         * @throws IOException If the contents cannot be written.
+         */
+        void write(FileChannel channel) throws IOException;
+    }
+}
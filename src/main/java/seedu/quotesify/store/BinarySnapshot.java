@@ -0,0 +1,468 @@
+package seedu.quotesify.store;
+
+import seedu.quotesify.author.Author;
+import seedu.quotesify.author.AuthorDirectory;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.bookmark.Bookmark;
+import seedu.quotesify.bookmark.BookmarkList;
+import seedu.quotesify.category.Category;
+import seedu.quotesify.category.CategoryList;
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.quote.Quote;
+import seedu.quotesify.quote.QuoteList;
+import seedu.quotesify.rating.Rating;
+import seedu.quotesify.rating.RatingList;
+import seedu.quotesify.todo.ToDo;
+import seedu.quotesify.todo.ToDoList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Represents a snapshot of all lists in Quotesify's compact binary save format.
+ *
+ * <p>The file starts with a magic number, the format version and the journal sequence, followed by a table of
+ * every distinct string in the snapshot. Each section then stores its name, its element count and its elements
+ * as length-prefixed records that refer to strings by their position in the table. Ratings and bookmarks refer to
+ * their books by identifier.</p>
+ */
+public class BinarySnapshot {
+    public static final int VERSION = 2;
+
+    private static final int MAGIC = 0x51534659;
+    private static final int NULL_STRING = -1;
+    private static final String[] SECTIONS = {
+        Storage.BOOKS, Storage.QUOTES, Storage.CATEGORIES, Storage.RATINGS, Storage.BOOKMARKS, Storage.TODOS
+    };
+
+    private long journalSequence;
+    private int version = VERSION;
+    private HashMap<String, QuotesifyList<?>> lists = new HashMap<>();
+
+    private ArrayList<String> strings = new ArrayList<>();
+    private HashMap<String, Integer> stringIndexes = new HashMap<>();
+
+    /**
+     * Returns the sequence number of the last journal change contained in the snapshot.
+     *
+     * @return Sequence number.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the lists read from the snapshot by section name.
+     * Sections that are missing or corrupted have no list.
+     *
+     * @return Saved lists by section name.
+     */
+    public HashMap<String, QuotesifyList<?>> getLists() {
+        return lists;
+    }
+
+    /**
+     * Writes all lists in list manager as a binary snapshot.
+     *
+     * @param outputStream Stream to write the snapshot to.
+     * @param journalSequence Sequence number of the last journal change contained in the snapshot.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void write(OutputStream outputStream, long journalSequence) throws IOException {
+        ByteArrayOutputStream sections = new ByteArrayOutputStream();
+        DataOutputStream sectionOut = new DataOutputStream(sections);
+        for (String section : SECTIONS) {
+            writeSection(sectionOut, section);
+        }
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(journalSequence);
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        sections.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Reads a binary snapshot, building the lists it contains.
+     * With more than one processor, the records of each section are built into its list on the fork-join pool as
+     * soon as they have been read, so the sections are built concurrently while the rest of the snapshot is read.
+     * Snapshots written by older versions of the format can still be read.
+     *
+     * @param inputStream Stream to read the snapshot from.
+     * @throws IOException If the snapshot is malformed, of an unknown version or cannot be read.
+     */
+    public void read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Quotesify snapshot");
+        }
+        version = in.readInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        journalSequence = in.readLong();
+
+        int stringCount = in.readInt();
+        strings = new ArrayList<>(stringCount);
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(new String(readBytes(in), StandardCharsets.UTF_8));
+        }
+
+        HashMap<String, ForkJoinTask<QuotesifyList<?>>> sectionTasks = new HashMap<>();
+        for (int i = 0; i < SECTIONS.length; i++) {
+            String section = in.readUTF();
+            ArrayList<byte[]> records = readRecords(in);
+            if (Storage.IS_PARSING_IN_PARALLEL) {
+                sectionTasks.put(section, ForkJoinPool.commonPool().submit(() -> readSection(section, records)));
+            } else {
+                putList(section, readSection(section, records));
+            }
+        }
+        for (String section : sectionTasks.keySet()) {
+            putList(section, sectionTasks.get(section).join());
+        }
+    }
+
+    /**
+     * Writes a section with its element count and one length-prefixed record per element.
+     *
+     * @param out Stream to write the section to.
+     * @param section Section name.
+     * @throws IOException If the section cannot be written.
+     */
+    private void writeSection(DataOutputStream out, String section) throws IOException {
+        ArrayList<?> items = ListManager.getList(Storage.getListType(section)).getList();
+        out.writeUTF(section);
+        out.writeInt(items.size());
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        for (Object item : items) {
+            record.reset();
+            writeItem(recordOut, section, item);
+            out.writeInt(record.size());
+            record.writeTo(out);
+        }
+    }
+
+    /**
+     * Writes the fields of a single model object.
+     *
+     * @param out Stream to write the fields to.
+     * @param section Section the model object belongs to.
+     * @param item Model object.
+     * @throws IOException If the fields cannot be written.
+     */
+    private void writeItem(DataOutputStream out, String section, Object item) throws IOException {
+        switch (section) {
+        case Storage.BOOKS:
+            writeBook(out, (Book) item);
+            break;
+        case Storage.QUOTES:
+            Quote quote = (Quote) item;
+            writeAuthor(out, quote.getAuthor());
+            writeString(out, quote.getQuote());
+            writeString(out, quote.getReference());
+            writeString(out, quote.getReflection());
+            writeStrings(out, quote.getCategories());
+            break;
+        case Storage.CATEGORIES:
+            writeString(out, ((Category) item).getCategoryName());
+            break;
+        case Storage.RATINGS:
+            Rating rating = (Rating) item;
+            out.writeLong(rating.getBook().getId());
+            out.writeInt(rating.getRating());
+            break;
+        case Storage.BOOKMARKS:
+            Bookmark bookmark = (Bookmark) item;
+            out.writeLong(bookmark.getBook().getId());
+            out.writeInt(bookmark.getPageNum());
+            break;
+        default:
+            ToDo toDo = (ToDo) item;
+            writeString(out, toDo.getName());
+            writeString(out, toDo.getDeadline());
+            out.writeBoolean(toDo.isDone());
+            break;
+        }
+    }
+
+    /**
+     * Writes the fields of a book.
+     *
+     * @param out Stream to write the fields to.
+     * @param book Book to be written.
+     * @throws IOException If the fields cannot be written.
+     */
+    private void writeBook(DataOutputStream out, Book book) throws IOException {
+        writeAuthor(out, book.getAuthor());
+        writeString(out, book.getTitle());
+        out.writeBoolean(book.isDone());
+        out.writeInt(book.getRating());
+        writeStrings(out, book.getCategories());
+        out.writeLong(book.getId());
+    }
+
+    /**
+     * Writes an author as a reference to its name.
+     *
+     * @param out Stream to write the author to.
+     * @param author Author to be written, may be null.
+     * @throws IOException If the author cannot be written.
+     */
+    private void writeAuthor(DataOutputStream out, Author author) throws IOException {
+        writeString(out, author == null ? null : author.getName());
+    }
+
+    /**
+     * Writes a list of strings as a count followed by references.
+     *
+     * @param out Stream to write the strings to.
+     * @param values Strings to be written.
+     * @throws IOException If the strings cannot be written.
+     */
+    private void writeStrings(DataOutputStream out, ArrayList<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    /**
+     * Writes a string as a reference into the string table, adding it to the table if needed.
+     *
+     * @param out Stream to write the reference to.
+     * @param value String to be written, may be null.
+     * @throws IOException If the reference cannot be written.
+     */
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndexes.put(value, index);
+        }
+        out.writeInt(index);
+    }
+
+    /**
+     * Reads the element count of a section and its length-prefixed records, without building them.
+     *
+     * @param in Stream positioned at the element count.
+     * @return Records of the section.
+     * @throws IOException If the snapshot is malformed or cannot be read.
+     */
+    private ArrayList<byte[]> readRecords(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative element count");
+        }
+        ArrayList<byte[]> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(readBytes(in));
+        }
+        return records;
+    }
+
+    /**
+     * Builds the list of a section from its records.
+     * Only the string table is shared between sections, and it is not changed while reading,
+     * so sections can be built on separate threads.
+     *
+     * @param section Section name.
+     * @param records Records of the section.
+     * @return List of saved model objects, or null if a record is corrupted.
+     */
+    private QuotesifyList<?> readSection(String section, ArrayList<byte[]> records) {
+        ArrayList<Object> items = new ArrayList<>(records.size());
+        for (byte[] record : records) {
+            try {
+                items.add(readItem(new DataInputStream(new ByteArrayInputStream(record)), section));
+            } catch (IOException | IndexOutOfBoundsException | NullPointerException e) {
+                return null;
+            }
+        }
+        return createList(section, items);
+    }
+
+    /**
+     * Reads the fields of a single model object.
+     *
+     * @param in Stream positioned at the record.
+     * @param section Section the model object belongs to.
+     * @return Saved model object.
+     * @throws IOException If the record is malformed.
+     */
+    private Object readItem(DataInputStream in, String section) throws IOException {
+        switch (section) {
+        case Storage.BOOKS:
+            return readBook(in, ListManager.BOOK_LIST);
+        case Storage.QUOTES:
+            Author author = readAuthor(in, ListManager.QUOTE_LIST);
+            String quote = readString(in);
+            String reference = readString(in);
+            String reflection = readString(in);
+            return new Quote(author, quote, readStrings(in), reference, reflection);
+        case Storage.CATEGORIES:
+            return new Category(readString(in));
+        case Storage.RATINGS:
+            if (version >= 2) {
+                return new Rating(new Book(in.readLong()), in.readInt());
+            }
+            String title = readString(in);
+            String name = readString(in);
+            return new Rating(new Book(new Author(name), title), in.readInt());
+        case Storage.BOOKMARKS:
+            Book book = version >= 2 ? new Book(in.readLong()) : readBook(in, ListManager.BOOKMARK_LIST);
+            return new Bookmark(book, in.readInt());
+        case Storage.TODOS:
+            String task = readString(in);
+            String deadline = readString(in);
+            ToDo toDo = new ToDo(task, deadline, in.readBoolean());
+            toDo.updateDateFormat();
+            return toDo;
+        default:
+            throw new IOException("Unknown section [" + section + "]");
+        }
+    }
+
+    /**
+     * Reads the fields of a book.
+     *
+     * @param in Stream positioned at the book.
+     * @param source List type of the list the book belongs to.
+     * @return Saved book details.
+     * @throws IOException If the record is malformed.
+     */
+    private Book readBook(DataInputStream in, int source) throws IOException {
+        Author author = readAuthor(in, source);
+        String title = readString(in);
+        boolean isDone = in.readBoolean();
+        int rating = in.readInt();
+        Book book = new Book(author, title, isDone, readStrings(in), rating);
+        if (version >= 2) {
+            book.setId(in.readLong());
+        }
+        return book;
+    }
+
+    /**
+     * Reads an author from a reference to its name.
+     *
+     * @param in Stream positioned at the reference.
+     * @param source List type of the list the author was saved in.
+     * @return Saved author details, or null if there is no author.
+     * @throws IOException If the record is malformed.
+     */
+    private Author readAuthor(DataInputStream in, int source) throws IOException {
+        String name = readString(in);
+        return name == null ? null : AuthorDirectory.intern(name, source);
+    }
+
+    /**
+     * Reads a list of strings written as a count followed by references.
+     *
+     * @param in Stream positioned at the count.
+     * @return List of strings.
+     * @throws IOException If the record is malformed.
+     */
+    private ArrayList<String> readStrings(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        ArrayList<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    /**
+     * Reads a string from a reference into the string table.
+     *
+     * @param in Stream positioned at the reference.
+     * @return String, or null if the reference is to no string.
+     * @throws IOException If the record is malformed.
+     */
+    private String readString(DataInputStream in) throws IOException {
+        int index = in.readInt();
+        return index == NULL_STRING ? null : strings.get(index);
+    }
+
+    /**
+     * Reads a length-prefixed block of bytes.
+     *
+     * @param in Stream positioned at the length.
+     * @return Bytes of the block.
+     * @throws IOException If the block is malformed or cannot be read.
+     */
+    private byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative block length");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Keeps the list read from a section, unless the section is corrupted.
+     *
+     * @param section Section name.
+     * @param list List of saved model objects, or null if the section is corrupted.
+     */
+    private void putList(String section, QuotesifyList<?> list) {
+        if (list != null) {
+            lists.put(section, list);
+        }
+    }
+
+    /**
+     * Creates the list of a section from its saved model objects.
+     *
+     * @param section Section name.
+     * @param items Saved model objects.
+     * @return List of saved model objects.
+     */
+    @SuppressWarnings("unchecked")
+    private QuotesifyList<?> createList(String section, ArrayList<Object> items) {
+        ArrayList<?> list = items;
+        switch (section) {
+        case Storage.BOOKS:
+            return new BookList((ArrayList<Book>) list);
+        case Storage.QUOTES:
+            return new QuoteList((ArrayList<Quote>) list);
+        case Storage.CATEGORIES:
+            return new CategoryList((ArrayList<Category>) list);
+        case Storage.RATINGS:
+            return new RatingList((ArrayList<Rating>) list);
+        case Storage.BOOKMARKS:
+            return new BookmarkList((ArrayList<Bookmark>) list);
+        default:
+            return new ToDoList((ArrayList<ToDo>) list);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.quotesify.store;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * Represents the formats books and quotes can be exchanged in with other programs,
+ * as opposed to the formats Quotesify saves its own data in.
+ * Markdown is meant to be read by people, so it can only be exported to.
+ */
+public enum ExchangeFormat {
+    CSV(".csv"),
+    JSON_LINES(".jsonl"),
+    MARKDOWN(".md");
+
+    private final String extension;
+
+    /**
+     * Constructor for an exchange format.
+     *
+     * @param extension File extension used by the format.
+     */
+    ExchangeFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file extension used by the format.
+     *
+     * @return File extension including the dot.
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format of a file, going by its extension.
+     *
+     * @param file File to be exchanged.
+     * @return Format of the file, or null if no format uses its extension.
+     */
+    public static ExchangeFormat fromFile(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        for (ExchangeFormat format : values()) {
+            if (name.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.quotesify.store;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Writes books, quotes, ratings or tasks to a file for use outside Quotesify, one row at a time.
+ *
+ * <p>A CSV file starts with a row of column names, and only quotes the fields that need it. A JSON Lines file
+ * holds one JSON object per row, keyed by the column names. A Markdown file holds a titled table to be read by
+ * people. Rows are written out as they are given, so only one row is held in memory at a time.</p>
+ */
+public class ExportWriter implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final String CSV_LINE_BREAK = "\r\n";
+    private static final String LIST_SEPARATOR = "; ";
+    private static final Pattern LINE_BREAK = Pattern.compile("\r\n|\r|\n");
+
+    private final Writer writer;
+    private final ExchangeFormat format;
+    private final List<String> columns;
+    private final JsonStreamWriter jsonWriter;
+
+    /**
+     * Constructor for export writer.
+     *
+     * @param writer Destination of the rows.
+     * @param format Format to write the rows in.
+     * @param columns Names of the columns of every row.
+     */
+    public ExportWriter(Writer writer, ExchangeFormat format, List<String> columns) {
+        this.writer = writer;
+        this.format = format;
+        this.columns = columns;
+        this.jsonWriter = new JsonStreamWriter(writer);
+    }
+
+    /**
+     * Opens a buffered export writer on a channel, encoding text in UTF-8.
+     *
+     * @param channel Channel to write to.
+     * @param format Format to write the rows in.
+     * @param columns Names of the columns of every row.
+     * @return Writer for the channel.
+     */
+    public static ExportWriter open(WritableByteChannel channel, ExchangeFormat format, List<String> columns) {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return new ExportWriter(new BufferedWriter(Channels.newWriter(channel, encoder, BUFFER_SIZE)), format,
+                columns);
+    }
+
+    /**
+     * Writes what comes before the rows, which is the column names for CSV, and a heading and the column names
+     * for Markdown.
+     *
+     * @param title Title of the rows, used as the heading.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void writeHeader(String title) throws IOException {
+        switch (format) {
+        case CSV:
+            writeCsvRow(columns);
+            break;
+        case MARKDOWN:
+            writer.write("# " + title + "\n\n");
+            writeMarkdownRow(columns.stream().map(ExportWriter::capitalize).collect(Collectors.toList()));
+            writeMarkdownRow(columns.stream().map(column -> "---").collect(Collectors.toList()));
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Writes a row. A value may be a string, a number, a boolean, a list of strings or null.
+     *
+     * @param values Values of the row, in the same order as the columns.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void writeRow(List<?> values) throws IOException {
+        assert values.size() == columns.size();
+        switch (format) {
+        case CSV:
+            writeCsvRow(values);
+            break;
+        case MARKDOWN:
+            writeMarkdownRow(values);
+            break;
+        default:
+            writeJsonRow(values);
+            break;
+        }
+    }
+
+    /**
+     * Writes out any buffered text without closing the underlying stream.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Flushes and closes the underlying stream.
+     *
+     * @throws IOException If the stream cannot be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Writes a row as comma-separated fields, quoting the fields that contain commas, quotes, line breaks or
+     * surrounding spaces.
+     *
+     * @param values Values of the row.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeCsvRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String text = toText(values.get(i));
+            boolean isQuoted = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                    || text.indexOf('\r') >= 0 || !text.equals(text.trim());
+            if (isQuoted) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write(CSV_LINE_BREAK);
+    }
+
+    /**
+     * Writes a row as a line of a Markdown table, escaping pipes and turning line breaks into HTML breaks.
+     *
+     * @param values Values of the row.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeMarkdownRow(List<?> values) throws IOException {
+        writer.write('|');
+        for (Object value : values) {
+            String text = LINE_BREAK.matcher(toText(value).replace("|", "\\|")).replaceAll("<br>");
+            writer.write(' ');
+            writer.write(text);
+            writer.write(" |");
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes a row as a JSON object on its own line.
+     *
+     * @param values Values of the row.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeJsonRow(List<?> values) throws IOException {
+        jsonWriter.beginObject();
+        for (int i = 0; i < values.size(); i++) {
+            jsonWriter.name(columns.get(i));
+            jsonWriter.value(values.get(i));
+        }
+        jsonWriter.endObject();
+        writer.write('\n');
+    }
+
+    /**
+     * Returns the text of a value for CSV and Markdown, which have no null or list values of their own.
+     *
+     * @param value Value of a field.
+     * @return Text of the value, with list elements separated by semicolons, or an empty string for null.
+     */
+    private static String toText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof List) {
+            return ((List<?>) value).stream().map(String::valueOf).collect(Collectors.joining(LIST_SEPARATOR));
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Returns a column name starting with a capital letter, for use as a Markdown table heading.
+     *
+     * @param column Column name.
+     * @return Capitalized column name.
+     */
+    private static String capitalize(String column) {
+        return column.isEmpty() ? column : Character.toUpperCase(column.charAt(0)) + column.substring(1);
+    }
+}
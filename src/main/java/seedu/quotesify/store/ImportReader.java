@@ -0,0 +1,273 @@
+package seedu.quotesify.store;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * Reads the records of a file of books or quotes exported by another program, one record at a time.
+ *
+ * <p>A CSV file holds one record per row, with the field names in its first row. Fields may be quoted,
+ * in which case they may contain commas, line breaks and doubled quotes. A JSON Lines file holds one JSON
+ * object per line. Records are read only as they are needed, so the file is never held in memory as a whole.</p>
+ */
+public class ImportReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final char BYTE_ORDER_MARK = 0xFEFF;
+    private static final String UNSUPPORTED_FORMAT_MESSAGE = "Only %s and %s files can be imported";
+    private static final String UNTERMINATED_FIELD_MESSAGE = "Quoted field is never closed";
+
+    private final Reader reader;
+    private final ExchangeFormat format;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private JsonStreamReader jsonReader;
+    private ArrayList<String> fieldNames;
+    private int recordNumber = 0;
+
+    /**
+     * Constructor for import reader.
+     *
+     * @param reader Source of the records.
+     * @param format Format the records are in.
+     */
+    public ImportReader(Reader reader, ExchangeFormat format) {
+        this.reader = reader;
+        this.format = format;
+        if (format == ExchangeFormat.JSON_LINES) {
+            jsonReader = new JsonStreamReader(reader);
+        }
+    }
+
+    /**
+     * Opens an import reader on a UTF-8 file, in the format given by its extension.
+     * A byte order mark at the start of the file, as written by some spreadsheet programs, is skipped.
+     *
+     * @param file File to import from.
+     * @return Reader for the file.
+     * @throws IOException If the file cannot be opened or is not in a format that can be imported.
+     */
+    public static ImportReader open(File file) throws IOException {
+        ExchangeFormat format = ExchangeFormat.fromFile(file);
+        if (format == null || format == ExchangeFormat.MARKDOWN) {
+            throw new IOException(String.format(UNSUPPORTED_FORMAT_MESSAGE, ExchangeFormat.CSV.getExtension(),
+                    ExchangeFormat.JSON_LINES.getExtension()));
+        }
+        PushbackReader reader = new PushbackReader(
+                new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8));
+        int firstChar = reader.read();
+        if (firstChar != -1 && firstChar != BYTE_ORDER_MARK) {
+            reader.unread(firstChar);
+        }
+        return new ImportReader(reader, format);
+    }
+
+    /**
+     * Reads the next record, skipping blank rows.
+     * Field names are trimmed and in lower case, so that they match regardless of how they were written.
+     *
+     * @return Values of the record by field name, or null if there are no more records.
+     * @throws IOException If the record is malformed or the file cannot be read.
+     */
+    public HashMap<String, String> nextRecord() throws IOException {
+        if (format == ExchangeFormat.JSON_LINES) {
+            return readJsonRecord();
+        }
+        return readCsvRecord();
+    }
+
+    /**
+     * Returns the number of the record that was last read, counting from 1 and leaving out the header row.
+     *
+     * @return Record number, or 0 if no record has been read yet.
+     */
+    public int getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException If the stream cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next JSON object as a record.
+     * String values are taken as they are, and other values as their JSON text. Null values are left out.
+     *
+     * @return Record, or null if there are no more objects.
+     * @throws IOException If the object is malformed or the file cannot be read.
+     */
+    private HashMap<String, String> readJsonRecord() throws IOException {
+        if (!jsonReader.hasNext()) {
+            return null;
+        }
+        recordNumber++;
+        HashMap<String, String> record = new HashMap<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = normalizeFieldName(jsonReader.nextName());
+            String value = jsonReader.isNextString() || jsonReader.isNextNull()
+                    ? jsonReader.nextString()
+                    : jsonReader.nextRawValue();
+            if (value != null) {
+                record.put(name, value);
+            }
+        }
+        jsonReader.endObject();
+        return record;
+    }
+
+    /**
+     * Reads the next non-blank CSV row as a record, reading the header row first if it has not been read yet.
+     * Fields beyond the header are left out.
+     *
+     * @return Record, or null if there are no more rows.
+     * @throws IOException If the row is malformed or the file cannot be read.
+     */
+    private HashMap<String, String> readCsvRecord() throws IOException {
+        if (fieldNames == null) {
+            fieldNames = readNonBlankCsvRow();
+            if (fieldNames == null) {
+                return null;
+            }
+            fieldNames.replaceAll(ImportReader::normalizeFieldName);
+        }
+
+        recordNumber++;
+        ArrayList<String> fields = readNonBlankCsvRow();
+        if (fields == null) {
+            recordNumber--;
+            return null;
+        }
+        HashMap<String, String> record = new HashMap<>();
+        for (int i = 0; i < Math.min(fields.size(), fieldNames.size()); i++) {
+            record.put(fieldNames.get(i), fields.get(i));
+        }
+        return record;
+    }
+
+    /**
+     * Reads CSV rows until one with a non-empty field is found.
+     *
+     * @return Fields of the row, or null if there are no more rows.
+     * @throws IOException If the row is malformed or the file cannot be read.
+     */
+    private ArrayList<String> readNonBlankCsvRow() throws IOException {
+        while (true) {
+            ArrayList<String> fields = readCsvRow();
+            if (fields == null || fields.stream().anyMatch(field -> !field.isEmpty())) {
+                return fields;
+            }
+        }
+    }
+
+    /**
+     * Reads the fields of a CSV row, up to and including the line break that ends it.
+     *
+     * @return Fields of the row, or null at the end of the file.
+     * @throws IOException If a quoted field is never closed or the file cannot be read.
+     */
+    private ArrayList<String> readCsvRow() throws IOException {
+        if (peek() == -1) {
+            return null;
+        }
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+        while (true) {
+            int c = read();
+            if (isInQuotes) {
+                if (c == -1) {
+                    throw new IOException(UNTERMINATED_FIELD_MESSAGE);
+                } else if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    field.append('"');
+                    position++;
+                } else {
+                    isInQuotes = false;
+                }
+            } else if (c == '"') {
+                isInQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Returns a field name in the form it is looked up by.
+     *
+     * @param name Field name as written in the file.
+     * @return Trimmed field name in lower case.
+     */
+    private static String normalizeFieldName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the next character without consuming it.
+     *
+     * @return Next character, or -1 at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fillBuffer()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Consumes the next character.
+     *
+     * @return Next character, or -1 at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    private int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    /**
+     * Reads more characters into the buffer.
+     *
+     * @return False if the end of the stream has been reached.
+     * @throws IOException If the stream cannot be read.
+     */
+    private boolean fillBuffer() throws IOException {
+        limit = reader.read(buffer, 0, BUFFER_SIZE);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+}
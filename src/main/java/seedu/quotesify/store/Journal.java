@@ -0,0 +1,249 @@
+package seedu.quotesify.store;
+
+import org.json.simple.JSONValue;
+import seedu.quotesify.exception.QuotesifyException;
+import seedu.quotesify.lists.ListChange;
+import seedu.quotesify.parser.JsonSerializer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+/**
+ * Represents the append-only journal of list changes made since the last snapshot.
+ * Each line of the journal file is a JSON object describing a single change.
+ * The list name is always written before the item so that the item can be read as it is streamed.
+ */
+public class Journal {
+    public static final String SEQUENCE = "seq";
+    public static final String LIST = "list";
+    public static final String OPERATION = "op";
+    public static final String INDEX = "index";
+    public static final String ITEM = "item";
+
+    private static final int COMPACTION_THRESHOLD = 500;
+    private static final String CORRUPTED_ENTRY_MESSAGE = "Journal entry is corrupted.";
+
+    private final File journalFile;
+    private long sequence;
+    private long startSequence;
+    private int entryCount;
+    private boolean isCorrupted;
+
+    /**
+     * Constructor for journal with the file it is written to.
+     *
+     * @param journalFile Journal file.
+     */
+    public Journal(File journalFile) {
+        this.journalFile = journalFile;
+        this.sequence = 0;
+        this.startSequence = 0;
+        this.entryCount = 0;
+        this.isCorrupted = false;
+    }
+
+    /**
+     * Appends list changes to the end of the journal.
+     * The sequence number only advances once every change has been written and the file closed.
+     *
+     * @param listName Name of the list the changes were made to.
+     * @param changes Changes in the order they were made.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void append(String listName, ArrayList<? extends ListChange<? extends JsonSerializer>> changes)
+            throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long nextSequence = sequence;
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(journalFile, true))) {
+            for (ListChange<? extends JsonSerializer> change : changes) {
+                StringBuilder entry = new StringBuilder("{");
+                appendMember(entry, SEQUENCE, String.valueOf(nextSequence + 1)).append(',');
+                appendMember(entry, LIST, JSONValue.toJSONString(listName)).append(',');
+                appendMember(entry, OPERATION, JSONValue.toJSONString(change.getOperation())).append(',');
+                appendMember(entry, INDEX, String.valueOf(change.getIndex()));
+                if (change.getItem() != null) {
+                    appendMember(entry.append(','), ITEM, change.getItem().toJson().toJSONString());
+                }
+                writer.write(entry.append('}').toString());
+                writer.newLine();
+                nextSequence++;
+            }
+        }
+
+        // only count the entries once they have all reached the file
+        entryCount += nextSequence - sequence;
+        sequence = nextSequence;
+    }
+
+    /**
+     * Appends a JSON object member to a journal line.
+     *
+     * @param entry Journal line being built.
+     * @param name Member name.
+     * @param value Member value in JSON form.
+     * @return The journal line being built.
+     */
+    private StringBuilder appendMember(StringBuilder entry, String name, String value) {
+        return entry.append('"').append(name).append("\":").append(value);
+    }
+
+    /**
+     * Reads the journal entries that are newer than the given snapshot sequence.
+     * Reading stops at the first corrupted entry, as nothing after it can be replayed safely.
+     *
+     * @param snapshotSequence Sequence number of the last change contained in the snapshot.
+     * @return Journal entries in the order they were written.
+     */
+    public ArrayList<JournalEntry> readEntriesAfter(long snapshotSequence) {
+        ArrayList<JournalEntry> entries = new ArrayList<>();
+        sequence = snapshotSequence;
+        startSequence = snapshotSequence;
+        entryCount = 0;
+        isCorrupted = false;
+        if (!journalFile.exists()) {
+            return entries;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(journalFile))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JournalEntry entry = parseEntry(line);
+                if (entryCount == 0) {
+                    startSequence = entry.getSequence() - 1;
+                }
+                entryCount++;
+                if (entry.getSequence() > snapshotSequence) {
+                    entries.add(entry);
+                    sequence = Math.max(sequence, entry.getSequence());
+                }
+            }
+        } catch (QuotesifyException | NullPointerException e) {
+            isCorrupted = true;
+        } catch (IOException e) {
+            System.out.println("Reading journal failed!");
+        }
+        return entries;
+    }
+
+    /**
+     * Parses a single line of the journal.
+     *
+     * @param line Journal line.
+     * @return Journal entry.
+     * @throws QuotesifyException If the line is not a complete journal entry.
+     * @throws NullPointerException If fields of the item are missing or corrupted.
+     */
+    private JournalEntry parseEntry(String line) throws QuotesifyException {
+        Long entrySequence = null;
+        String listName = null;
+        String operation = null;
+        Long index = null;
+        JsonSerializer item = null;
+
+        try (JsonStreamReader reader = new JsonStreamReader(new StringReader(line))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                case SEQUENCE:
+                    entrySequence = reader.nextLong();
+                    break;
+                case LIST:
+                    listName = reader.nextString();
+                    break;
+                case OPERATION:
+                    operation = reader.nextString();
+                    break;
+                case INDEX:
+                    index = reader.nextLong();
+                    break;
+                case ITEM:
+                    if (listName == null) {
+                        throw new QuotesifyException(CORRUPTED_ENTRY_MESSAGE);
+                    }
+                    item = SaveDataReader.readItem(listName, reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+                }
+            }
+            reader.endObject();
+            reader.endDocument();
+        } catch (IOException e) {
+            throw new QuotesifyException(CORRUPTED_ENTRY_MESSAGE);
+        }
+
+        if (entrySequence == null || listName == null || operation == null || index == null) {
+            throw new QuotesifyException(CORRUPTED_ENTRY_MESSAGE);
+        }
+        return new JournalEntry(entrySequence, listName, operation, index.intValue(), item);
+    }
+
+    /**
+     * Empties the journal after its changes have been written into a snapshot.
+     * The sequence number keeps increasing across resets.
+     *
+     * @throws IOException If the journal cannot be written.
+     */
+    public void reset() throws IOException {
+        new FileWriter(journalFile, false).close();
+        startSequence = sequence;
+        entryCount = 0;
+        isCorrupted = false;
+    }
+
+    /**
+     * Marks a journal entry as one that could not be replayed.
+     */
+    public void markCorrupted() {
+        isCorrupted = true;
+    }
+
+    /**
+     * Returns the sequence number of the last change written to the journal.
+     *
+     * @return Sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the sequence number of the snapshot the journal was started after, which is the one just before
+     * its first entry. Only a snapshot at least this new holds every change the journal does not.
+     *
+     * @return Sequence number.
+     */
+    public long getStartSequence() {
+        return startSequence;
+    }
+
+    /**
+     * Returns the number of entries currently in the journal.
+     *
+     * @return Number of entries.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Decides if the journal should be folded into a new snapshot.
+     *
+     * @return True if the journal is too long or contains corrupted entries.
+     */
+    public boolean isCompactionDue() {
+        return isCorrupted || entryCount >= COMPACTION_THRESHOLD;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.quotesify.store;
+
+import seedu.quotesify.parser.JsonSerializer;
+
+/**
+ * Represents a list change read back from the journal.
+ */
+public class JournalEntry {
+    private final long sequence;
+    private final String listName;
+    private final String operation;
+    private final int index;
+    private final JsonSerializer item;
+
+    /**
+     * Constructor for a journal entry.
+     *
+     * @param sequence Sequence number of the change.
+     * @param listName Name of the list the change was made to.
+     * @param operation Type of change.
+     * @param index Position in the list affected by the change.
+     * @param item Model object affected by the change, null if not applicable.
+     */
+    public JournalEntry(long sequence, String listName, String operation, int index, JsonSerializer item) {
+        this.sequence = sequence;
+        this.listName = listName;
+        this.operation = operation;
+        this.index = index;
+        this.item = item;
+    }
+
+    /**
+     * Returns the sequence number of the change.
+     *
+     * @return Sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the name of the list the change was made to.
+     *
+     * @return List name.
+     */
+    public String getListName() {
+        return listName;
+    }
+
+    /**
+     * Returns the type of change.
+     *
+     * @return Operation name.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the position in the list affected by the change.
+     *
+     * @return Index in the list.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the model object affected by the change.
+     *
+     * @return Model object, null if not applicable.
+     */
+    public JsonSerializer getItem() {
+        return item;
+    }
+}
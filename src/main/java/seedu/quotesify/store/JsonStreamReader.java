@@ -0,0 +1,472 @@
+package seedu.quotesify.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads JSON save data one token at a time from a character stream.
+ * Values are handed to the caller as they are read, so no document tree is built in memory.
+ */
+public class JsonStreamReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final String MALFORMED_MESSAGE = "Malformed save data at position %d: %s";
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private long offset = 0;
+
+    /**
+     * Constructor for json stream reader.
+     *
+     * @param reader Source of the JSON text.
+     */
+    public JsonStreamReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Consumes the start of a JSON object.
+     *
+     * @throws IOException If the next value is not an object or the stream cannot be read.
+     */
+    public void beginObject() throws IOException {
+        expect('{');
+    }
+
+    /**
+     * Consumes the end of a JSON object.
+     *
+     * @throws IOException If the object has not ended or the stream cannot be read.
+     */
+    public void endObject() throws IOException {
+        expect('}');
+    }
+
+    /**
+     * Consumes the start of a JSON array.
+     *
+     * @throws IOException If the next value is not an array or the stream cannot be read.
+     */
+    public void beginArray() throws IOException {
+        expect('[');
+    }
+
+    /**
+     * Consumes the end of a JSON array.
+     *
+     * @throws IOException If the array has not ended or the stream cannot be read.
+     */
+    public void endArray() throws IOException {
+        expect(']');
+    }
+
+    /**
+     * Checks if the current object or array has another element, consuming the separating comma if any.
+     *
+     * @return True if another element follows.
+     * @throws IOException If the stream cannot be read.
+     */
+    public boolean hasNext() throws IOException {
+        int c = peekNonWhitespace();
+        if (c == ',') {
+            position++;
+            return true;
+        }
+        return c != '}' && c != ']' && c != -1;
+    }
+
+    /**
+     * Reads the name of the next member of an object, including the colon after it.
+     *
+     * @return Member name.
+     * @throws IOException If the next token is not a member name or the stream cannot be read.
+     */
+    public String nextName() throws IOException {
+        String name = readString();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * Checks if the next value is a JSON null.
+     *
+     * @return True if the next value is null.
+     * @throws IOException If the stream cannot be read.
+     */
+    public boolean isNextNull() throws IOException {
+        return peekNonWhitespace() == 'n';
+    }
+
+    /**
+     * Checks if the next value is a JSON object, without consuming it.
+     *
+     * @return True if the next value is an object.
+     * @throws IOException If the stream cannot be read.
+     */
+    public boolean isNextObject() throws IOException {
+        return peekNonWhitespace() == '{';
+    }
+
+    /**
+     * Checks if the next value is a JSON string, without consuming it.
+     *
+     * @return True if the next value is a string.
+     * @throws IOException If the stream cannot be read.
+     */
+    public boolean isNextString() throws IOException {
+        return peekNonWhitespace() == '"';
+    }
+
+    /**
+     * Consumes a JSON null.
+     *
+     * @throws IOException If the next value is not null or the stream cannot be read.
+     */
+    public void nextNull() throws IOException {
+        expectLiteral("null");
+    }
+
+    /**
+     * Reads a string value.
+     *
+     * @return String value, or null if the value is a JSON null.
+     * @throws IOException If the next value is not a string or the stream cannot be read.
+     */
+    public String nextString() throws IOException {
+        if (isNextNull()) {
+            nextNull();
+            return null;
+        }
+        return readString();
+    }
+
+    /**
+     * Reads a whole number value.
+     *
+     * @return Number value.
+     * @throws IOException If the next value is not a whole number or the stream cannot be read.
+     */
+    public long nextLong() throws IOException {
+        String number = readNumber();
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            throw malformed("expected a whole number but found " + number);
+        }
+    }
+
+    /**
+     * Reads a boolean value.
+     *
+     * @return Boolean value.
+     * @throws IOException If the next value is not a boolean or the stream cannot be read.
+     */
+    public boolean nextBoolean() throws IOException {
+        int c = peekNonWhitespace();
+        if (c == 't') {
+            expectLiteral("true");
+            return true;
+        }
+        expectLiteral("false");
+        return false;
+    }
+
+    /**
+     * Skips over the next value, including any nested objects and arrays.
+     *
+     * @throws IOException If the value is malformed or the stream cannot be read.
+     */
+    public void skipValue() throws IOException {
+        int c = peekNonWhitespace();
+        switch (c) {
+        case '{':
+            beginObject();
+            while (hasNext()) {
+                nextName();
+                skipValue();
+            }
+            endObject();
+            break;
+        case '[':
+            beginArray();
+            while (hasNext()) {
+                skipValue();
+            }
+            endArray();
+            break;
+        case '"':
+            readString();
+            break;
+        case 't':
+        case 'f':
+            nextBoolean();
+            break;
+        case 'n':
+            nextNull();
+            break;
+        default:
+            readNumber();
+            break;
+        }
+    }
+
+    /**
+     * Reads the next value as its JSON text, including any nested objects and arrays, without building it.
+     * Only the nesting and the bounds of strings are followed, so the text is found quickly, and it is left to
+     * be checked when it is read again with a separate reader, such as on another thread.
+     * The whole value is held in memory, so this is meant for values known to be small.
+     *
+     * @return JSON text of the value.
+     * @throws IOException If the value is unterminated or the stream cannot be read.
+     */
+    public String nextRawValue() throws IOException {
+        peekNonWhitespace();
+        StringBuilder text = new StringBuilder();
+        int depth = 0;
+        boolean isInString = false;
+        boolean isEscaped = false;
+        boolean isEnded = false;
+        while (!isEnded && peek() != -1) {
+            int start = position;
+            while (!isEnded && position < limit) {
+                char c = buffer[position];
+                if (isInString) {
+                    isInString = isEscaped || c != '"';
+                    isEscaped = !isEscaped && c == '\\';
+                    isEnded = !isInString && depth == 0;
+                } else if (c == '"') {
+                    isInString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (depth == 0 && (c == ',' || c == '}' || c == ']' || isWhitespace(c))) {
+                    break;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                    isEnded = depth == 0;
+                }
+                position++;
+            }
+            text.append(buffer, start, position - start);
+            isEnded = isEnded || position < limit;
+        }
+        if (text.length() == 0 || isInString || depth > 0) {
+            throw malformed("unterminated value");
+        }
+        return text.toString();
+    }
+
+    /**
+     * Checks that nothing but whitespace is left in the stream.
+     *
+     * @throws IOException If there is trailing content or the stream cannot be read.
+     */
+    public void endDocument() throws IOException {
+        if (peekNonWhitespace() != -1) {
+            throw malformed("unexpected trailing content");
+        }
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException If the stream cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads a quoted string, resolving escape sequences.
+     *
+     * @return String without quotes.
+     * @throws IOException If the string is malformed or the stream cannot be read.
+     */
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw malformed("unterminated string");
+            } else if (c == '"') {
+                return builder.toString();
+            } else if (c == '\\') {
+                builder.append(readEscapedChar());
+            } else {
+                builder.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Reads the character after a backslash in a string.
+     *
+     * @return Character the escape sequence stands for.
+     * @throws IOException If the escape sequence is invalid or the stream cannot be read.
+     */
+    private char readEscapedChar() throws IOException {
+        int c = read();
+        switch (c) {
+        case '"':
+        case '\\':
+        case '/':
+            return (char) c;
+        case 'b':
+            return '\b';
+        case 'f':
+            return '\f';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 't':
+            return '\t';
+        case 'u':
+            int code = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(read(), 16);
+                if (digit < 0) {
+                    throw malformed("invalid unicode escape");
+                }
+                code = code * 16 + digit;
+            }
+            return (char) code;
+        default:
+            throw malformed("invalid escape character");
+        }
+    }
+
+    /**
+     * Reads the characters of a number value.
+     *
+     * @return Number as written in the stream.
+     * @throws IOException If there is no number or the stream cannot be read.
+     */
+    private String readNumber() throws IOException {
+        peekNonWhitespace();
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            int c = peek();
+            if (c == -1 || "-+.eE0123456789".indexOf(c) < 0) {
+                break;
+            }
+            builder.append((char) c);
+            position++;
+        }
+        if (builder.length() == 0) {
+            throw malformed("expected a value");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Consumes the next non-whitespace character, which must be the expected one.
+     *
+     * @param expected Expected character.
+     * @throws IOException If a different character is found or the stream cannot be read.
+     */
+    private void expect(char expected) throws IOException {
+        if (peekNonWhitespace() != expected) {
+            throw malformed("expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    /**
+     * Consumes a literal such as true, false or null.
+     *
+     * @param literal Expected literal.
+     * @throws IOException If a different literal is found or the stream cannot be read.
+     */
+    private void expectLiteral(String literal) throws IOException {
+        peekNonWhitespace();
+        for (int i = 0; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw malformed("expected " + literal);
+            }
+        }
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it.
+     *
+     * @return Next character, or -1 at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    private int peekNonWhitespace() throws IOException {
+        int c = peek();
+        while (isWhitespace(c)) {
+            position++;
+            c = peek();
+        }
+        return c;
+    }
+
+    /**
+     * Checks if a character is whitespace between JSON tokens.
+     *
+     * @param c Character, or -1 at the end of the stream.
+     * @return True if the character is whitespace.
+     */
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /**
+     * Returns the next character without consuming it.
+     *
+     * @return Next character, or -1 at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    private int peek() throws IOException {
+        if (position == limit && !fillBuffer()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    /**
+     * Consumes and returns the next character.
+     *
+     * @return Next character, or -1 at the end of the stream.
+     * @throws IOException If the stream cannot be read.
+     */
+    private int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    /**
+     * Reads the next block of characters from the stream into the buffer.
+     *
+     * @return True if any characters were read.
+     * @throws IOException If the stream cannot be read.
+     */
+    private boolean fillBuffer() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = reader.read(buffer, 0, BUFFER_SIZE);
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates an exception describing malformed save data at the current position.
+     *
+     * @param reason Description of the problem.
+     * @return Exception to be thrown.
+     */
+    private IOException malformed(String reason) {
+        return new IOException(String.format(MALFORMED_MESSAGE, offset + position, reason));
+    }
+}
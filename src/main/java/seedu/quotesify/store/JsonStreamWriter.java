@@ -0,0 +1,253 @@
+package seedu.quotesify.store;
+
+import org.json.simple.JSONAware;
+import org.json.simple.JSONValue;
+import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.parser.JsonSerializer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes JSON save data one token at a time to a character stream.
+ * Lists are written one model object at a time, so no document tree or document string is built in memory.
+ *
+ * <p>Values are written exactly as json-simple writes them, with maps in their own iteration order,
+ * so the text is the same as that of {@code toJSONString()} on the equivalent {@code JSONObject}.</p>
+ */
+public class JsonStreamWriter implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Writer writer;
+    private final ArrayDeque<Boolean> isEmptyScopes = new ArrayDeque<>();
+    private boolean isAfterName = false;
+
+    /**
+     * Constructor for json stream writer.
+     *
+     * @param writer Destination of the JSON text.
+     */
+    public JsonStreamWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a buffered json stream writer on a channel.
+     * Text is encoded in the platform charset, as {@link java.io.FileWriter} does.
+     *
+     * @param channel Channel to write to.
+     * @return Writer for the channel.
+     */
+    public static JsonStreamWriter open(WritableByteChannel channel) {
+        CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return new JsonStreamWriter(new BufferedWriter(Channels.newWriter(channel, encoder, BUFFER_SIZE)));
+    }
+
+    /**
+     * Writes the start of a JSON object.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    public void beginObject() throws IOException {
+        beginScope('{');
+    }
+
+    /**
+     * Writes the end of a JSON object.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    public void endObject() throws IOException {
+        endScope('}');
+    }
+
+    /**
+     * Writes the start of a JSON array.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    public void beginArray() throws IOException {
+        beginScope('[');
+    }
+
+    /**
+     * Writes the end of a JSON array.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    public void endArray() throws IOException {
+        endScope(']');
+    }
+
+    /**
+     * Writes the name of the next member of the current object.
+     *
+     * @param name Member name.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void name(String name) throws IOException {
+        writeSeparator();
+        writeString(name);
+        writer.write(':');
+        isAfterName = true;
+    }
+
+    /**
+     * Writes a value, which may be a list of model objects, a model object, a map, a list, a string,
+     * a number, a boolean or null.
+     *
+     * @param value Value to be written.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void value(Object value) throws IOException {
+        if (value instanceof QuotesifyList) {
+            writeList(((QuotesifyList<?>) value).getList());
+        } else if (value instanceof JsonSerializer) {
+            value(((JsonSerializer) value).toJson());
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value);
+        } else if (value instanceof List) {
+            writeList((List<?>) value);
+        } else {
+            writeSeparator();
+            writeScalar(value);
+        }
+    }
+
+    /**
+     * Writes out any buffered text without closing the underlying stream.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Flushes and closes the underlying stream.
+     *
+     * @throws IOException If the stream cannot be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Writes the members of a map as a JSON object.
+     *
+     * @param map Map to be written.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeMap(Map<?, ?> map) throws IOException {
+        beginObject();
+        for (Map.Entry<?, ?> member : map.entrySet()) {
+            name(String.valueOf(member.getKey()));
+            value(member.getValue());
+        }
+        endObject();
+    }
+
+    /**
+     * Writes the elements of a list as a JSON array.
+     *
+     * @param list List to be written.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeList(List<?> list) throws IOException {
+        beginArray();
+        for (Object element : list) {
+            value(element);
+        }
+        endArray();
+    }
+
+    /**
+     * Writes a value that has no members or elements.
+     *
+     * @param value Value to be written.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeScalar(Object value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Double && (((Double) value).isInfinite() || ((Double) value).isNaN())) {
+            writer.write("null");
+        } else if (value instanceof Float && (((Float) value).isInfinite() || ((Float) value).isNaN())) {
+            writer.write("null");
+        } else if (value instanceof JSONAware) {
+            writer.write(((JSONAware) value).toJSONString());
+        } else {
+            writer.write(value.toString());
+        }
+    }
+
+    /**
+     * Writes a quoted and escaped JSON string.
+     *
+     * @param string String to be written.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeString(String string) throws IOException {
+        writer.write('"');
+        writer.write(JSONValue.escape(string));
+        writer.write('"');
+    }
+
+    /**
+     * Writes the start of an object or array.
+     *
+     * @param opening Opening character.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void beginScope(char opening) throws IOException {
+        writeSeparator();
+        writer.write(opening);
+        isEmptyScopes.push(true);
+    }
+
+    /**
+     * Writes the end of an object or array.
+     *
+     * @param closing Closing character.
+     * @throws IOException If the stream cannot be written.
+     */
+    private void endScope(char closing) throws IOException {
+        isEmptyScopes.pop();
+        writer.write(closing);
+    }
+
+    /**
+     * Writes the comma before the next element of the current object or array, unless it is the first element
+     * or the value of a member whose name has just been written.
+     *
+     * @throws IOException If the stream cannot be written.
+     */
+    private void writeSeparator() throws IOException {
+        if (isAfterName) {
+            isAfterName = false;
+            return;
+        }
+        if (isEmptyScopes.isEmpty()) {
+            return;
+        }
+        if (!isEmptyScopes.pop()) {
+            writer.write(',');
+        }
+        isEmptyScopes.push(false);
+    }
+}
@@ -0,0 +1,445 @@
+package seedu.quotesify.store;
+
+import seedu.quotesify.author.Author;
+import seedu.quotesify.author.AuthorDirectory;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.bookmark.Bookmark;
+import seedu.quotesify.bookmark.BookmarkList;
+import seedu.quotesify.category.Category;
+import seedu.quotesify.category.CategoryList;
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.parser.JsonSerializer;
+import seedu.quotesify.quote.Quote;
+import seedu.quotesify.quote.QuoteList;
+import seedu.quotesify.rating.Rating;
+import seedu.quotesify.rating.RatingList;
+import seedu.quotesify.todo.ToDo;
+import seedu.quotesify.todo.ToDoList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Builds model objects directly from a stream of JSON save data.
+ */
+public class SaveDataReader {
+    private static final String MISSING_FIELD_MESSAGE = "Missing field [%s]";
+
+    /**
+     * Reads a single model object belonging to a save file section.
+     *
+     * @param section Section name.
+     * @param reader Reader positioned at the model object.
+     * @return Saved model object.
+     * @throws IOException If the save data is malformed or cannot be read.
+     * @throws NullPointerException If fields are missing or corrupted.
+     */
+    public static JsonSerializer readItem(String section, JsonStreamReader reader) throws IOException {
+        switch (section) {
+        case Storage.BOOKS:
+            return readBook(reader);
+        case Storage.QUOTES:
+            return readQuote(reader);
+        case Storage.CATEGORIES:
+            return readCategory(reader);
+        case Storage.BOOKMARKS:
+            return readBookmark(reader);
+        case Storage.RATINGS:
+            return readRating(reader);
+        case Storage.TODOS:
+            return readTodo(reader);
+        default:
+            throw new IOException("Unknown section [" + section + "]");
+        }
+    }
+
+    /**
+     * Reads save data into a book.
+     *
+     * @param reader Reader positioned at the book.
+     * @return Saved book details.
+     * @throws IOException If the save data is malformed or cannot be read.
+     * @throws NullPointerException If fields are missing or corrupted.
+     */
+    public static Book readBook(JsonStreamReader reader) throws IOException {
+        return readBook(reader, ListManager.BOOK_LIST);
+    }
+
+    /**
+     * Reads save data into a book belonging to a list.
+     *
+     * @param reader Reader positioned at the book.
+     * @param source List type of the list the book belongs to.
+     * @return Saved book details.
+     * @throws IOException If the save data is malformed or cannot be read.
+     * @throws NullPointerException If fields are missing or corrupted.
+     */
+    private static Book readBook(JsonStreamReader reader, int source) throws IOException {
+        Long id = null;
+        Author author = null;
+        String title = null;
+        Boolean isDone = null;
+        ArrayList<String> categories = null;
+        Long rating = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "id":
+                id = reader.nextLong();
+                break;
+            case "author":
+                author = readAuthor(reader, source);
+                break;
+            case "title":
+                title = reader.nextString();
+                break;
+            case "isDone":
+                isDone = reader.nextBoolean();
+                break;
+            case "categories":
+                categories = readStringArray(reader);
+                break;
+            case "rating":
+                rating = reader.nextLong();
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+
+        Book book = new Book(author, title, require(isDone, "isDone"), require(categories, "categories"),
+                require(rating, "rating").intValue());
+        if (id != null) {
+            book.setId(id);
+        }
+        return book;
+    }
+
+    /**
+     * Reads save data into a quote.
+     *
+     * @param reader Reader positioned at the quote.
+     * @return Saved quote details.
+     * @throws IOException If the save data is malformed or cannot be read.
+     * @throws NullPointerException If fields are missing or corrupted.
+     */
+    public static Quote readQuote(JsonStreamReader reader) throws IOException {
+        Author author = null;
+        String quote = null;
+        String reference = null;
+        String reflection = null;
+        ArrayList<String> categories = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "author":
+                author = readAuthor(reader, ListManager.QUOTE_LIST);
+                break;
+            case "quote":
+                quote = reader.nextString();
+                break;
+            case "reference":
+                reference = reader.nextString();
+                break;
+            case "reflection":
+                reflection = reader.nextString();
+                break;
+            case "categories":
+                categories = readStringArray(reader);
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+
+        return new Quote(author, quote, require(categories, "categories"), reference, reflection);
+    }
+
+    /**
+     * Reads save data into a category.
+     * The books and quotes of the category are filled in once all lists have been loaded.
+     *
+     * @param reader Reader positioned at the category.
+     * @return Saved category details.
+     * @throws IOException If the save data is malformed or cannot be read.
+     */
+    public static Category readCategory(JsonStreamReader reader) throws IOException {
+        String name = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("category")) {
+                name = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new Category(name);
+    }
+
+    /**
+     * Reads save data into a rating.
+     * The rated book is a reference that is resolved once all books have been loaded.
+     * Ratings saved by older versions refer to the book by its title and author instead of its identifier.
+     *
+     * @param reader Reader positioned at the rating.
+     * @return Saved rating details.
+     * @throws IOException If the save data is malformed or cannot be read.
+     * @throws NullPointerException If fields are missing or corrupted.
+     */
+    public static Rating readRating(JsonStreamReader reader) throws IOException {
+        Book book = null;
+        String title = null;
+        String name = null;
+        Long rating = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "book":
+                book = new Book(reader.nextLong());
+                break;
+            case "titleOfRatedBook":
+                title = reader.nextString();
+                break;
+            case "authorOfRatedBook":
+                name = reader.nextString();
+                break;
+            case "rating":
+                rating = reader.nextLong();
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+
+        if (book == null) {
+            book = new Book(new Author(name), title);
+        }
+        return new Rating(book, require(rating, "rating").intValue());
+    }
+
+    /**
+     * Reads save data into a bookmark.
+     * The book is a reference that is resolved once all books have been loaded.
+     * Bookmarks saved by older versions hold a copy of the book instead of its identifier.
+     *
+     * @param reader Reader positioned at the bookmark.
+     * @return Saved bookmark details.
+     * @throws IOException If the save data is malformed or cannot be read.
+     * @throws NullPointerException If fields are missing or corrupted.
+     */
+    public static Bookmark readBookmark(JsonStreamReader reader) throws IOException {
+        Book book = null;
+        Long pageNum = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "book":
+                book = reader.isNextObject()
+                        ? readBook(reader, ListManager.BOOKMARK_LIST)
+                        : new Book(reader.nextLong());
+                break;
+            case "pageNum":
+                pageNum = reader.nextLong();
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+
+        return new Bookmark(require(book, "book"), require(pageNum, "pageNum").intValue());
+    }
+
+    /**
+     * Reads save data into a todo.
+     *
+     * @param reader Reader positioned at the todo.
+     * @return Saved todo details.
+     * @throws IOException If the save data is malformed or cannot be read.
+     * @throws NullPointerException If fields are missing or corrupted.
+     */
+    public static ToDo readTodo(JsonStreamReader reader) throws IOException {
+        String name = null;
+        String deadline = null;
+        Boolean isDone = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "name":
+                name = reader.nextString();
+                break;
+            case "deadline":
+                deadline = reader.nextString();
+                break;
+            case "isDone":
+                isDone = reader.nextBoolean();
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+
+        ToDo newToDo = new ToDo(name, deadline, require(isDone, "isDone"));
+        newToDo.updateDateFormat();
+        return newToDo;
+    }
+
+    /**
+     * Reads save data into an author, which is shared by all books and quotes by the same author.
+     *
+     * @param reader Reader positioned at the author.
+     * @param source List type of the list the author was saved in.
+     * @return Saved author details, or null if there is no author.
+     * @throws IOException If the save data is malformed or cannot be read.
+     */
+    public static Author readAuthor(JsonStreamReader reader, int source) throws IOException {
+        if (reader.isNextNull()) {
+            reader.nextNull();
+            return null;
+        }
+
+        String authorName = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("name")) {
+                authorName = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return AuthorDirectory.intern(authorName, source);
+    }
+
+    /**
+     * Reads an array of strings.
+     *
+     * @param reader Reader positioned at the array.
+     * @return List of strings, or null if the value is a JSON null.
+     * @throws IOException If the save data is malformed or cannot be read.
+     */
+    private static ArrayList<String> readStringArray(JsonStreamReader reader) throws IOException {
+        if (reader.isNextNull()) {
+            reader.nextNull();
+            return null;
+        }
+
+        ArrayList<String> strings = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            strings.add(reader.nextString());
+        }
+        reader.endArray();
+        return strings;
+    }
+
+    /**
+     * Checks that a required field was present in the save data.
+     *
+     * @param value Value read for the field.
+     * @param field Field name.
+     * @param <T> Type of the field.
+     * @return The value itself.
+     * @throws NullPointerException If the field was missing.
+     */
+    private static <T> T require(T value, String field) {
+        if (value == null) {
+            throw new NullPointerException(String.format(MISSING_FIELD_MESSAGE, field));
+        }
+        return value;
+    }
+
+    /**
+     * Reads a section of the save file into its list.
+     *
+     * @param section Section name.
+     * @param reader Reader positioned at the section value.
+     * @return List of saved model objects, or null if the section is corrupted.
+     * @throws IOException If the save file is malformed or cannot be read.
+     */
+    public static QuotesifyList<?> readList(String section, JsonStreamReader reader) throws IOException {
+        switch (section) {
+        case Storage.BOOKS:
+            ArrayList<Book> books = readArray(reader, SaveDataReader::readBook);
+            return books == null ? null : new BookList(books);
+        case Storage.QUOTES:
+            ArrayList<Quote> quotes = readArray(reader, SaveDataReader::readQuote);
+            return quotes == null ? null : new QuoteList(quotes);
+        case Storage.CATEGORIES:
+            ArrayList<Category> categories = readArray(reader, SaveDataReader::readCategory);
+            return categories == null ? null : new CategoryList(categories);
+        case Storage.RATINGS:
+            ArrayList<Rating> ratings = readArray(reader, SaveDataReader::readRating);
+            return ratings == null ? null : new RatingList(ratings);
+        case Storage.BOOKMARKS:
+            ArrayList<Bookmark> bookmarks = readArray(reader, SaveDataReader::readBookmark);
+            return bookmarks == null ? null : new BookmarkList(bookmarks);
+        default:
+            ArrayList<ToDo> todos = readArray(reader, SaveDataReader::readTodo);
+            return todos == null ? null : new ToDoList(todos);
+        }
+    }
+
+    /**
+     * Reads an array of model objects, building each one as soon as it has been read.
+     * Once a model object is found to be corrupted, the rest of the array is skipped.
+     *
+     * @param reader Reader positioned at the array.
+     * @param itemReader Reader for a single model object.
+     * @param <T> Type of model object.
+     * @return List of saved model objects, or null if the array is missing or corrupted.
+     * @throws IOException If the save file is malformed or cannot be read.
+     */
+    private static <T> ArrayList<T> readArray(JsonStreamReader reader, ItemReader<T> itemReader) throws IOException {
+        if (reader.isNextNull()) {
+            reader.nextNull();
+            return null;
+        }
+
+        ArrayList<T> items = new ArrayList<>();
+        boolean isCorrupted = false;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (isCorrupted) {
+                reader.skipValue();
+                continue;
+            }
+            try {
+                items.add(itemReader.read(reader));
+            } catch (NullPointerException e) {
+                isCorrupted = true;
+            }
+        }
+        reader.endArray();
+        return isCorrupted ? null : items;
+    }
+
+    /**
+     * Reads a single model object from save data.
+     *
+     * @param <T> Type of model object.
+     */
+    private interface ItemReader<T> {
+        T read(JsonStreamReader reader) throws IOException;
+    }
+}
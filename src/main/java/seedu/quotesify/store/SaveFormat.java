@@ -0,0 +1,31 @@
+package seedu.quotesify.store;
+
+/**
+ * Represents the formats a snapshot of Quotesify's data can be saved in.
+ * A segmented snapshot is a directory of JSON files, one per list, rather than a single file.
+ */
+public enum SaveFormat {
+    JSON(".json"),
+    BINARY(".dat"),
+    SEGMENTED("");
+
+    private final String extension;
+
+    /**
+     * Constructor for a save format.
+     *
+     * @param extension File extension used by the format.
+     */
+    SaveFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file extension used by the format.
+     *
+     * @return File extension including the dot.
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
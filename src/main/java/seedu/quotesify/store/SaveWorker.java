@@ -0,0 +1,73 @@
+package seedu.quotesify.store;
+
+/**
+ * Represents the background worker that writes changes to hard disk on behalf of storage.
+ * Changes made within one save interval of each other are written together.
+ */
+public class SaveWorker implements Runnable {
+    private final Storage storage;
+    private final long saveInterval;
+    private boolean isDirty = false;
+    private boolean isStopped = false;
+
+    /**
+     * Constructor for save worker.
+     *
+     * @param storage Storage to write changes with.
+     * @param saveInterval Time in milliseconds to wait for further changes before writing.
+     */
+    public SaveWorker(Storage storage, long saveInterval) {
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Records that there are changes waiting to be written.
+     */
+    public synchronized void markDirty() {
+        isDirty = true;
+        notifyAll();
+    }
+
+    /**
+     * Stops the worker once it finishes any write in progress.
+     */
+    public synchronized void stop() {
+        isStopped = true;
+        notifyAll();
+    }
+
+    /**
+     * Writes changes whenever there are some, until the worker is stopped.
+     */
+    @Override
+    public void run() {
+        while (waitForChanges()) {
+            storage.writeChanges();
+        }
+    }
+
+    /**
+     * Waits until there are changes and then for one save interval, so that a burst of changes is written once.
+     *
+     * @return True if the changes should be written, false if the worker has been stopped.
+     */
+    private synchronized boolean waitForChanges() {
+        try {
+            while (!isDirty && !isStopped) {
+                wait();
+            }
+            long deadline = System.currentTimeMillis() + saveInterval;
+            long remaining = saveInterval;
+            while (!isStopped && remaining > 0) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+            isDirty = false;
+            return !isStopped;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
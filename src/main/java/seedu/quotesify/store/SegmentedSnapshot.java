@@ -0,0 +1,277 @@
+package seedu.quotesify.store;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.lists.QuotesifyList;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a snapshot split into one JSON segment file per list, kept in a directory with a small manifest.
+ *
+ * <p>Each segment records the journal sequence it is up to date with, so segments can be written independently
+ * and only the lists that changed need to be rewritten. The manifest is written last and names the segments,
+ * along with the journal sequence of the latest write, so segments can also be read one at a time.</p>
+ */
+public class SegmentedSnapshot {
+    public static final String MANIFEST = "manifest.json";
+    public static final int VERSION = 1;
+
+    private static final String SEGMENT_EXTENSION = ".json";
+    private static final String VERSION_KEY = "version";
+    private static final String SEGMENTS_KEY = "segments";
+    private static final String JOURNAL_SEQUENCE = "journalSequence";
+    private static final String[] SECTIONS = {
+        Storage.BOOKS, Storage.QUOTES, Storage.CATEGORIES, Storage.RATINGS, Storage.BOOKMARKS, Storage.TODOS
+    };
+
+    private final File directory;
+    private final Map<String, QuotesifyList<?>> lists = new ConcurrentHashMap<>();
+    private final Map<String, Long> sequences = new ConcurrentHashMap<>();
+    private final Set<String> restoredSections = ConcurrentHashMap.newKeySet();
+    private ArrayList<String> segments = new ArrayList<>();
+    private long journalSequence = -1;
+
+    /**
+     * Constructor for segmented snapshot kept in a directory.
+     *
+     * @param directory Directory holding the manifest and segment files.
+     */
+    public SegmentedSnapshot(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the lists read from the segments by section name.
+     * Sections whose segment is missing or corrupted have no list.
+     *
+     * @return Saved lists by section name.
+     */
+    public HashMap<String, QuotesifyList<?>> getLists() {
+        return new HashMap<>(lists);
+    }
+
+    /**
+     * Returns the sequence number of the last journal change contained in the latest write of the segments.
+     * All journal changes after it are newer than every segment.
+     *
+     * @return Sequence number, or -1 if it is unknown.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the sequence number of the last journal change contained in the segment of a section.
+     *
+     * @param section Section name.
+     * @return Sequence number, or null if the segment was not read.
+     */
+    public Long getJournalSequence(String section) {
+        return sequences.get(section);
+    }
+
+    /**
+     * Checks if the segment of a section was read from its backup, as the segment itself could not be read.
+     * The backup may be older than the journal, which then no longer holds every change made since the backup.
+     *
+     * @param section Section name.
+     * @return True if the backup of the segment was read.
+     */
+    public boolean isRestoredFromBackup(String section) {
+        return restoredSections.contains(section);
+    }
+
+    /**
+     * Writes the segments of the given sections, along with any segment that does not exist yet, and the manifest.
+     *
+     * @param sections Sections whose lists have changed since their segments were written.
+     * @param journalSequence Sequence number of the last journal change contained in the lists.
+     * @throws IOException If a segment or the manifest cannot be written.
+     */
+    public void write(Collection<String> sections, long journalSequence) throws IOException {
+        for (String section : SECTIONS) {
+            if (sections.contains(section) || !getSegmentFile(section).exists()) {
+                writeSegment(section, journalSequence);
+            }
+        }
+        writeManifest(journalSequence);
+    }
+
+    /**
+     * Reads the manifest, then all segments it names in parallel.
+     *
+     * @throws IOException If the manifest is missing, malformed or of an unknown version.
+     */
+    public void read() throws IOException {
+        readManifest();
+        segments.parallelStream().forEach(this::readSegment);
+        if (journalSequence < 0) {
+            journalSequence = sequences.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        }
+    }
+
+    /**
+     * Writes the segment of a section, keeping its previous contents as a backup.
+     *
+     * @param section Section name.
+     * @param journalSequence Sequence number of the last journal change contained in the list.
+     * @throws IOException If the segment cannot be written.
+     */
+    private void writeSegment(String section, long journalSequence) throws IOException {
+        JSONObject json = new JSONObject();
+        json.put(section, ListManager.getList(Storage.getListType(section)));
+        json.put(JOURNAL_SEQUENCE, journalSequence);
+
+        new AtomicFile(getSegmentFile(section), true).write(channel -> {
+            JsonStreamWriter writer = JsonStreamWriter.open(channel);
+            writer.value(json);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Writes the manifest naming all segments, keeping its previous contents as a backup.
+     *
+     * @param journalSequence Sequence number of the last journal change contained in the lists.
+     * @throws IOException If the manifest cannot be written.
+     */
+    private void writeManifest(long journalSequence) throws IOException {
+        JSONArray segments = new JSONArray();
+        segments.addAll(Arrays.asList(SECTIONS));
+        JSONObject json = new JSONObject();
+        json.put(VERSION_KEY, VERSION);
+        json.put(SEGMENTS_KEY, segments);
+        json.put(JOURNAL_SEQUENCE, journalSequence);
+
+        new AtomicFile(new File(directory, MANIFEST), true).write(channel -> {
+            JsonStreamWriter writer = JsonStreamWriter.open(channel);
+            writer.value(json);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Reads the names of the segments and the journal sequence of the latest write from the manifest.
+     * The backup of the manifest is read instead if the manifest itself cannot be read.
+     *
+     * @throws IOException If neither the manifest nor its backup can be read.
+     */
+    public void readManifest() throws IOException {
+        File manifest = new File(directory, MANIFEST);
+        try {
+            readManifestFile(manifest);
+        } catch (IOException e) {
+            readManifestFile(new AtomicFile(manifest, true).getBackupFile());
+        }
+    }
+
+    /**
+     * Reads the names of the segments and the journal sequence of the latest write from a manifest file.
+     *
+     * @param manifest Manifest file.
+     * @throws IOException If the manifest is missing, malformed or of an unknown version.
+     */
+    private void readManifestFile(File manifest) throws IOException {
+        segments = new ArrayList<>();
+        journalSequence = -1;
+        long version = 0;
+        try (JsonStreamReader reader = new JsonStreamReader(new BufferedReader(new FileReader(manifest)))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals(VERSION_KEY)) {
+                    version = reader.nextLong();
+                } else if (name.equals(SEGMENTS_KEY)) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        segments.add(reader.nextString());
+                    }
+                    reader.endArray();
+                } else if (name.equals(JOURNAL_SEQUENCE)) {
+                    journalSequence = reader.nextLong();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            reader.endDocument();
+        }
+
+        if (version != VERSION) {
+            throw new IOException("Unsupported manifest version " + version);
+        }
+    }
+
+    /**
+     * Reads the segment of a section, or its backup if the segment itself cannot be read.
+     * A section whose segment and backup are both missing or corrupted is left out without affecting
+     * the other segments.
+     *
+     * @param section Section name.
+     */
+    public void readSegment(String section) {
+        File segment = getSegmentFile(section);
+        if (!readSegmentFile(section, segment)
+                && readSegmentFile(section, new AtomicFile(segment, true).getBackupFile())) {
+            restoredSections.add(section);
+        }
+    }
+
+    /**
+     * Reads the segment of a section from a segment file.
+     *
+     * @param section Section name.
+     * @param segment Segment file.
+     * @return True if the segment was read, false if it is missing or corrupted.
+     */
+    private boolean readSegmentFile(String section, File segment) {
+        long sequence = 0;
+        QuotesifyList<?> list = null;
+        try (JsonStreamReader reader = new JsonStreamReader(new BufferedReader(new FileReader(segment)))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals(JOURNAL_SEQUENCE)) {
+                    sequence = reader.nextLong();
+                } else if (name.equals(section)) {
+                    list = SaveDataReader.readList(section, reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            reader.endDocument();
+        } catch (IOException e) {
+            return false;
+        }
+
+        if (list == null) {
+            return false;
+        }
+        lists.put(section, list);
+        sequences.put(section, sequence);
+        return true;
+    }
+
+    /**
+     * Returns the segment file of a section.
+     *
+     * @param section Section name.
+     * @return Segment file.
+     */
+    private File getSegmentFile(String section) {
+        return new File(directory, section + SEGMENT_EXTENSION);
+    }
+}
@@ -1,70 +1,136 @@
 package seedu.quotesify.store;
 
-import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
-import seedu.quotesify.author.Author;
-import seedu.quotesify.book.Book;
+import seedu.quotesify.author.AuthorDirectory;
 import seedu.quotesify.book.BookList;
-import seedu.quotesify.bookmark.Bookmark;
 import seedu.quotesify.bookmark.BookmarkList;
-import seedu.quotesify.category.Category;
 import seedu.quotesify.category.CategoryList;
+import seedu.quotesify.lists.ListChange;
 import seedu.quotesify.lists.ListManager;
-import seedu.quotesify.quote.Quote;
+import seedu.quotesify.lists.QuotesifyList;
+import seedu.quotesify.parser.JsonSerializer;
 import seedu.quotesify.quote.QuoteList;
-import seedu.quotesify.rating.Rating;
 import seedu.quotesify.rating.RatingList;
-import seedu.quotesify.todo.ToDo;
 import seedu.quotesify.todo.ToDoList;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Represents the storage for Quotesify.
  */
 public class Storage {
+    static final String BOOKS = "books";
+    static final String QUOTES = "quotes";
+    static final String CATEGORIES = "categories";
+    static final String RATINGS = "ratings";
+    static final String BOOKMARKS = "bookmarks";
+    static final String TODOS = "todos";
+    static final boolean IS_PARSING_IN_PARALLEL = Runtime.getRuntime().availableProcessors() > 1;
+
     private static final String CURRENT_DIR = System.getProperty("user.dir");
     private static final String SEPARATOR = File.separator;
 
-    private static final String BOOKS = "books";
-    private static final String QUOTES = "quotes";
-    private static final String CATEGORIES = "categories";
-    private static final String RATINGS = "ratings";
-    private static final String BOOKMARKS = "bookmarks";
-    private static final String TODOS = "todos";
+    private static final long MAX_PARALLEL_JSON_SIZE = 4 * 1024 * 1024;
+    private static final String JOURNAL_SEQUENCE = "journalSequence";
+    private static final String JOURNAL_EXTENSION = ".journal";
     private static final String DATA_CORRUPT_MESSAGE = "[%s] is corrupted in save file. Creating an empty list.\n";
+    private static final String BACKUP_RESTORED_MESSAGE = "Save file is corrupted. Restored the previous save.";
+    private static final String CHANGES_DISCARDED_MESSAGE = "Changes made after the restored save could not be "
+            + "recovered.";
+    private static final String SECTION_CHANGES_DISCARDED_MESSAGE = "Changes to [%s] made after the restored save "
+            + "could not be recovered.\n";
+    private static final int[] LIST_TYPES = {
+        ListManager.BOOK_LIST, ListManager.QUOTE_LIST, ListManager.CATEGORY_LIST,
+        ListManager.BOOKMARK_LIST, ListManager.RATING_LIST, ListManager.TODO_LIST
+    };
 
     private File saveFile;
+    private File jsonFile;
+    private Journal journal;
+    private final SaveFormat format;
+    private final boolean isJournaled;
+    private final ReentrantLock dataLock = new ReentrantLock();
+    private SaveWorker saveWorker;
+    private final HashSet<String> staleSections = new HashSet<>();
+    private final HashMap<String, Long> sectionSequences = new HashMap<>();
+    private final HashSet<String> restoredSections = new HashSet<>();
+    private final HashMap<String, ArrayList<JournalEntry>> pendingEntries = new HashMap<>();
+    private SegmentedSnapshot lazySnapshot;
 
     /**
      * Constructor for storage with file path to save data.
+     * Changes are appended to a journal and folded into the save file periodically.
      *
      * @param filePath Save data directory.
      */
     public Storage(String filePath) {
-        initialiseSaveFile(filePath);
+        this(filePath, SaveFormat.JSON, true);
+    }
+
+    /**
+     * Constructor for storage with file path to save data.
+     *
+     * @param filePath Save data directory.
+     * @param isJournaled Whether changes are appended to a journal instead of rewriting the save file.
+     */
+    public Storage(String filePath, boolean isJournaled) {
+        this(filePath, SaveFormat.JSON, isJournaled);
+    }
+
+    /**
+     * Constructor for storage with file path to save data and the format of the save file.
+     * The extension of the file path is replaced by the one of the format.
+     *
+     * @param filePath Save data directory.
+     * @param format Format of the save file.
+     * @param isJournaled Whether changes are appended to a journal instead of rewriting the save file.
+     */
+    public Storage(String filePath, SaveFormat format, boolean isJournaled) {
+        this.format = format;
+        this.isJournaled = isJournaled;
+        String basePath = filePath.replaceFirst("\\.json$", "");
+        if (format == SaveFormat.SEGMENTED) {
+            initialiseSaveFile(basePath + "/" + SegmentedSnapshot.MANIFEST);
+        } else {
+            initialiseSaveFile(basePath + format.getExtension());
+        }
+        jsonFile = new File(resolvePath(basePath + SaveFormat.JSON.getExtension()));
+        journal = new Journal(new File(resolvePath(basePath + JOURNAL_EXTENSION)));
     }
 
     /**
      * Checks for save file existence and manages its creation.
+     * A save that was interrupted by a crash is recovered first.
      *
      * @param filePath Save data directory.
      */
     public void initialiseSaveFile(String filePath) {
         try {
-            filePath = CURRENT_DIR + filePath.replace("/", SEPARATOR).replace("\\", SEPARATOR);
+            filePath = resolvePath(filePath);
             saveFile = new File(filePath);
 
             if (!saveFile.getParentFile().exists()) {
                 saveFile.getParentFile().mkdirs();
             }
+            new AtomicFile(saveFile, true).recover();
 
             if (!saveFile.exists()) {
                 saveFile.createNewFile();
@@ -74,291 +140,731 @@ public class Storage {
         }
     }
 
+    /**
+     * Returns the full path of a file path given relative to the current directory.
+     *
+     * @param filePath File path relative to the current directory.
+     * @return Full file path using the separator of the platform.
+     */
+    private static String resolvePath(String filePath) {
+        return CURRENT_DIR + filePath.replace("/", SEPARATOR).replace("\\", SEPARATOR);
+    }
+
+    /**
+     * Starts writing changes to hard disk in the background instead of on every save.
+     *
+     * @param saveInterval Time in milliseconds to wait for further changes before writing.
+     */
+    public void startBackgroundSaving(long saveInterval) {
+        saveWorker = new SaveWorker(this, saveInterval);
+        Thread thread = new Thread(saveWorker, "QuotesifySaveWorker");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Locks the data against background saving while it is being modified.
+     */
+    public void lock() {
+        dataLock.lock();
+    }
+
+    /**
+     * Releases the data for background saving after it has been modified.
+     */
+    public void unlock() {
+        dataLock.unlock();
+    }
+
     /**
      * Saves the data into hard disk.
+     * With background saving, the data is only marked as changed and written shortly after.
      */
     public void save() {
+        if (saveWorker != null) {
+            saveWorker.markDirty();
+            return;
+        }
+        writeChanges();
+    }
+
+    /**
+     * Writes any changes that have not been written yet, and stops background saving.
+     */
+    public void flush() {
+        if (saveWorker != null) {
+            saveWorker.stop();
+            saveWorker = null;
+        }
+        writeChanges();
+    }
+
+    /**
+     * Writes the changes made since the last write into hard disk.
+     * Only the changes themselves are written when journaling is enabled.
+     */
+    void writeChanges() {
+        dataLock.lock();
         try {
-            JSONObject json = new JSONObject();
-            json.put("books", ListManager.getList(ListManager.BOOK_LIST).toJsonArray());
-            json.put("quotes", ListManager.getList(ListManager.QUOTE_LIST).toJsonArray());
-            json.put("categories", ListManager.getList(ListManager.CATEGORY_LIST).toJsonArray());
-            json.put("bookmarks", ListManager.getList(ListManager.BOOKMARK_LIST).toJsonArray());
-            json.put("ratings", ListManager.getList(ListManager.RATING_LIST).toJsonArray());
-            json.put("todos", ListManager.getList(ListManager.TODO_LIST).toJsonArray());
-
-            FileWriter fileWriter = new FileWriter(saveFile);
-            fileWriter.write(json.toJSONString());
-            fileWriter.close();
+            if (!isAnyListDirty()) {
+                return;
+            }
+            if (!isJournaled) {
+                writeSnapshot();
+                return;
+            }
+
+            for (int type : LIST_TYPES) {
+                if (!ListManager.isLoaded(type)) {
+                    continue;
+                }
+                QuotesifyList<?> list = ListManager.getList(type);
+                if (list.isDirty()) {
+                    journal.append(getSectionName(type), list.getChanges());
+                    staleSections.add(getSectionName(type));
+                    list.clearChanges();
+                }
+            }
+            if (journal.isCompactionDue()) {
+                compact();
+            }
         } catch (IOException e) {
             System.out.println("Saving to file failed!");
-            // e.printStackTrace();
+        } finally {
+            dataLock.unlock();
         }
     }
 
     /**
-     * Loads data from hard disk.
+     * Writes all data into a new snapshot and empties the journal.
      */
-    public void load() {
+    public void compact() {
+        dataLock.lock();
         try {
-            FileReader fileReader = new FileReader(saveFile);
-            JSONParser jsonParser = new JSONParser();
-            JSONObject json = (JSONObject) jsonParser.parse(fileReader);
-            updateListManager(json);
-            fileReader.close();
-        } catch (ParseException | IOException e) {
-            // e.printStackTrace();
-            ListManager.initialiseAllLists();
+            if (writeSnapshot() && isJournaled) {
+                journal.reset();
+            }
+        } catch (IOException e) {
+            System.out.println("Saving to file failed!");
+        } finally {
+            dataLock.unlock();
         }
     }
 
     /**
-     * Updates all lists in list manager with saved data.
+     * Exports all data into a JSON file.
+     *
+     * @param file File to export to.
+     * @throws IOException If the file cannot be written.
+     */
+    public void exportJson(File file) throws IOException {
+        writeJsonSnapshot(new AtomicFile(file));
+    }
+
+    /**
+     * Imports all data from a JSON file, replacing the current data, and saves it.
      *
-     * @param json JSON serialized save data.
+     * @param file File to import from.
+     * @throws IOException If the file is malformed or cannot be read.
      */
-    private void updateListManager(JSONObject json) {
-        ListManager.addToList(ListManager.BOOK_LIST, parseBookList(json));
-        ListManager.addToList(ListManager.QUOTE_LIST, parseQuoteList(json));
-        ListManager.addToList(ListManager.CATEGORY_LIST, parseCategoryList(json));
-        ListManager.addToList(ListManager.RATING_LIST, parseRatingList(json));
-        ListManager.addToList(ListManager.BOOKMARK_LIST, parseBookmarkList(json));
-        ListManager.addToList(ListManager.TODO_LIST, parseTodoList(json));
+    public void importJson(File file) throws IOException {
+        readSnapshot(file, SaveFormat.JSON);
+        linkLists();
+        markAllSectionsStale();
+        compact();
     }
 
     /**
-     * Parses save data into book list.
+     * Writes all lists into the save file.
+     * The save file is replaced atomically, and its previous contents are kept as a backup.
      *
-     * @param json JSON serialized save data.
-     * @return List of saved books.
+     * @return True if the save file was written successfully.
      */
-    private BookList parseBookList(JSONObject json) {
+    private boolean writeSnapshot() {
         try {
-            JSONArray books = (JSONArray) json.get(BOOKS);
-            ArrayList<Book> bookList = new ArrayList<>();
-            for (Object book : books) {
-                bookList.add(parseBookObject((JSONObject) book));
+            if (format == SaveFormat.SEGMENTED) {
+                writeSegmentedSnapshot();
+            } else if (format == SaveFormat.BINARY) {
+                writeBinarySnapshot(new AtomicFile(saveFile, true));
+            } else {
+                writeJsonSnapshot(new AtomicFile(saveFile, true));
+                staleSections.clear();
             }
-            return new BookList(bookList);
-        } catch (NullPointerException e) {
-            System.out.printf(DATA_CORRUPT_MESSAGE, BOOKS);
+            clearAllChanges();
+            return true;
+        } catch (IOException e) {
+            System.out.println("Saving to file failed!");
+            return false;
         }
-        return new BookList();
     }
 
     /**
-     * Parses save data into quote list.
+     * Writes the segments of the lists that changed since their segments were last written.
+     * Lists with journal changes that have not been replayed yet are loaded first, as the journal is emptied after.
      *
-     * @param json JSON serialized save data.
-     * @return List of saved quotes.
+     * @throws IOException If a segment cannot be written.
      */
-    private QuoteList parseQuoteList(JSONObject json) {
-        try {
-            JSONArray quotes = (JSONArray) json.get(QUOTES);
-            ArrayList<Quote> quoteList = new ArrayList<>();
-            for (Object quote : quotes) {
-                quoteList.add(parseQuoteObject((JSONObject) quote));
+    private void writeSegmentedSnapshot() throws IOException {
+        for (String section : new ArrayList<>(pendingEntries.keySet())) {
+            ListManager.getList(getListType(section));
+        }
+        for (int type : LIST_TYPES) {
+            if (ListManager.isLoaded(type) && ListManager.getList(type).isDirty()) {
+                staleSections.add(getSectionName(type));
             }
-            return new QuoteList(quoteList);
-        } catch (NullPointerException e) {
-            System.out.printf(DATA_CORRUPT_MESSAGE, QUOTES);
         }
-        return new QuoteList();
+        new SegmentedSnapshot(saveFile.getParentFile()).write(staleSections, journal.getSequence());
+        staleSections.clear();
     }
 
     /**
-     * Parses save data into category list.
+     * Writes all lists into a file in the binary snapshot format.
      *
-     * @param json JSON serialized save data.
-     * @return List of saved categories.
+     * @param file File to write to.
+     * @throws IOException If the file cannot be written.
      */
-    private CategoryList parseCategoryList(JSONObject json) {
+    private void writeBinarySnapshot(AtomicFile file) throws IOException {
+        file.write(channel -> {
+            OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+            new BinarySnapshot().write(outputStream, journal.getSequence());
+            outputStream.flush();
+        });
+    }
+
+    /**
+     * Writes all lists into a file in JSON, streaming each list one model object at a time.
+     * The sections are kept in a JSONObject only so that they are written in the same order as before.
+     *
+     * @param file File to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    private void writeJsonSnapshot(AtomicFile file) throws IOException {
+        JSONObject json = new JSONObject();
+        for (int type : LIST_TYPES) {
+            json.put(getSectionName(type), ListManager.getList(type));
+        }
+        json.put(JOURNAL_SEQUENCE, journal.getSequence());
+
+        file.write(channel -> {
+            JsonStreamWriter writer = JsonStreamWriter.open(channel);
+            writer.value(json);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Checks if any loaded list has changed since it was last written.
+     *
+     * @return True if there are unwritten changes.
+     */
+    private boolean isAnyListDirty() {
+        for (int type : LIST_TYPES) {
+            if (ListManager.isLoaded(type) && ListManager.getList(type).isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads data from hard disk.
+     * The latest snapshot is loaded first, then newer changes in the journal are replayed on top of it.
+     * If the snapshot is corrupted, the previous snapshot kept as a backup is loaded instead.
+     * With segments, each list is only loaded when it is first used.
+     */
+    public void load() {
+        boolean isMigrating = format != SaveFormat.JSON && saveFile.length() == 0 && jsonFile.length() > 0;
+        if (format == SaveFormat.SEGMENTED && !isMigrating && loadLazily()) {
+            if (journal.isCompactionDue()) {
+                compact();
+            }
+            return;
+        }
+
+        File snapshotFile = isMigrating ? jsonFile : saveFile;
+        SaveFormat snapshotFormat = isMigrating ? SaveFormat.JSON : format;
+        long snapshotSequence = 0;
+        boolean isRestoredFromBackup = false;
         try {
-            JSONArray categories = (JSONArray) json.get(CATEGORIES);
-            ArrayList<Category> categoryList = new ArrayList<>();
-            for (Object category : categories) {
-                categoryList.add(parseCategoryObject((JSONObject) category));
+            AuthorDirectory.clear();
+            snapshotSequence = readSnapshot(snapshotFile, snapshotFormat);
+        } catch (IOException e) {
+            try {
+                // forget the authors read from the corrupted snapshot
+                AuthorDirectory.clear();
+                snapshotSequence = readSnapshot(new AtomicFile(snapshotFile, true).getBackupFile(), snapshotFormat);
+                isRestoredFromBackup = true;
+                System.out.println(BACKUP_RESTORED_MESSAGE);
+            } catch (IOException backupException) {
+                ListManager.initialiseAllLists();
             }
-            return new CategoryList(categoryList);
-        } catch (NullPointerException e) {
-            System.out.printf(DATA_CORRUPT_MESSAGE, CATEGORIES);
         }
-        return new CategoryList();
+
+        if (isJournaled) {
+            replayJournal(snapshotSequence);
+        }
+        clearAllChanges();
+        linkLists();
+        if (isMigrating || isRestoredFromBackup) {
+            markAllSectionsStale();
+        }
+        if (isMigrating || isRestoredFromBackup || journal.isCompactionDue()) {
+            compact();
+        }
     }
 
     /**
-     * Parses save data into rating list.
+     * Reads the manifest of the segments and the journal, and leaves the lists to be loaded when first used.
      *
-     * @param json JSON serialized save data.
-     * @return List of saved ratings.
+     * @return True if the lists will be loaded when first used, false if the manifest cannot be read.
      */
-    private RatingList parseRatingList(JSONObject json) {
+    private boolean loadLazily() {
+        SegmentedSnapshot snapshot = new SegmentedSnapshot(saveFile.getParentFile());
         try {
-            JSONArray ratings = (JSONArray) json.get(RATINGS);
-            ArrayList<Rating> ratingList = new ArrayList<>();
-            for (Object rating : ratings) {
-                ratingList.add(parseRatingObject((JSONObject) rating));
+            snapshot.readManifest();
+        } catch (IOException e) {
+            return false;
+        }
+        if (snapshot.getJournalSequence() < 0) {
+            return false;
+        }
+
+        sectionSequences.clear();
+        restoredSections.clear();
+        pendingEntries.clear();
+        if (isJournaled) {
+            for (JournalEntry entry : journal.readEntriesAfter(snapshot.getJournalSequence())) {
+                pendingEntries.computeIfAbsent(entry.getListName(), section -> new ArrayList<>()).add(entry);
             }
-            return new RatingList(ratingList);
-        } catch (NullPointerException e) {
-            System.out.printf(DATA_CORRUPT_MESSAGE, RATINGS);
         }
-        return new RatingList();
+        lazySnapshot = snapshot;
+        ListManager.initialiseLazily(this::loadList);
+        return true;
     }
 
     /**
-     * Parses save data into bookmark list.
+     * Loads a list from its segment and replays its journal changes on top of it.
+     * The book list is loaded along with the lists that refer to books, and the quote list along with the
+     * category list, which is built from both.
      *
-     * @param json JSON serialized save data.
-     * @return List of saved bookmarks.
+     * @param type List type in list manager.
+     * @return Loaded list.
      */
-    private BookmarkList parseBookmarkList(JSONObject json) {
-        try {
-            JSONArray bookmarks = (JSONArray) json.get(BOOKMARKS);
-            ArrayList<Bookmark> bookmarkList = new ArrayList<>();
-            for (Object bookmark : bookmarks) {
-                bookmarkList.add(parseBookmarkObject((JSONObject) bookmark));
+    private QuotesifyList<?> loadList(int type) {
+        String section = getSectionName(type);
+        lazySnapshot.readSegment(section);
+        HashMap<String, QuotesifyList<?>> lists = lazySnapshot.getLists();
+        QuotesifyList<?> list = getSavedList(lists, section, createEmptyList(type));
+        if (type == ListManager.BOOK_LIST && ((BookList) list).assignMissingIds()) {
+            staleSections.add(BOOKS);
+        }
+
+        ArrayList<JournalEntry> entries = pendingEntries.remove(section);
+        Long segmentSequence = lazySnapshot.getJournalSequence(section);
+        if (lazySnapshot.isRestoredFromBackup(section)) {
+            staleSections.add(section);
+            if (entries != null && !isJournalContinuingFrom(segmentSequence)) {
+                discardJournalEntries(section);
+                entries = null;
+            }
+        }
+        if (entries != null) {
+            for (JournalEntry entry : entries) {
+                if (segmentSequence == null || entry.getSequence() <= segmentSequence) {
+                    continue;
+                }
+                staleSections.add(section);
+                try {
+                    applyJournalEntry(entry, list);
+                } catch (RuntimeException e) {
+                    System.out.printf(DATA_CORRUPT_MESSAGE, "journal");
+                    journal.markCorrupted();
+                    break;
+                }
             }
-            return new BookmarkList(bookmarkList);
-        } catch (NullPointerException e) {
-            System.out.printf(DATA_CORRUPT_MESSAGE, BOOKMARKS);
         }
-        return new BookmarkList();
+        list.clearChanges();
+
+        switch (type) {
+        case ListManager.BOOK_LIST:
+            ((BookList) list).reindex();
+            break;
+        case ListManager.QUOTE_LIST:
+            ((QuoteList) list).reindex();
+            break;
+        case ListManager.BOOKMARK_LIST:
+            if (((BookmarkList) list).resolveBooks((BookList) ListManager.getList(ListManager.BOOK_LIST))) {
+                staleSections.add(BOOKMARKS);
+            }
+            break;
+        case ListManager.RATING_LIST:
+            if (((RatingList) list).resolveBooks((BookList) ListManager.getList(ListManager.BOOK_LIST))) {
+                staleSections.add(RATINGS);
+            }
+            break;
+        case ListManager.CATEGORY_LIST:
+            ((CategoryList) list).updateListsInAllCategories();
+            break;
+        default:
+            break;
+        }
+        return list;
     }
 
     /**
-     * Parses save data into todo list.
+     * Reads all lists from a snapshot file into list manager.
      *
-     * @param json JSON serialized save data.
-     * @return List of saved todos.
+     * @param file Snapshot file.
+     * @param snapshotFormat Format of the snapshot file.
+     * @return Sequence number of the last journal change contained in the snapshot.
+     * @throws IOException If the snapshot is malformed or cannot be read.
      */
-    private ToDoList parseTodoList(JSONObject json) {
-        try {
-            JSONArray todos = (JSONArray) json.get(TODOS);
-            ArrayList<ToDo> todoList = new ArrayList<>();
-            for (Object todo : todos) {
-                todoList.add(parseTodoObject((JSONObject) todo));
+    private long readSnapshot(File file, SaveFormat snapshotFormat) throws IOException {
+        sectionSequences.clear();
+        restoredSections.clear();
+        pendingEntries.clear();
+        if (snapshotFormat == SaveFormat.SEGMENTED) {
+            SegmentedSnapshot snapshot = new SegmentedSnapshot(file.getParentFile());
+            snapshot.read();
+            updateListManager(snapshot.getLists());
+            for (int type : LIST_TYPES) {
+                String section = getSectionName(type);
+                Long sectionSequence = snapshot.getJournalSequence(section);
+                sectionSequences.put(section, sectionSequence == null ? Long.MAX_VALUE : sectionSequence);
+                if (snapshot.isRestoredFromBackup(section)) {
+                    restoredSections.add(section);
+                    staleSections.add(section);
+                }
             }
-            return new ToDoList(todoList);
-        } catch (NullPointerException e) {
-            System.out.printf(DATA_CORRUPT_MESSAGE, TODOS);
+            return snapshot.getJournalSequence();
+        }
+        if (snapshotFormat == SaveFormat.BINARY) {
+            try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+                BinarySnapshot snapshot = new BinarySnapshot();
+                snapshot.read(inputStream);
+                updateListManager(snapshot.getLists());
+                return snapshot.getJournalSequence();
+            }
+        }
+
+        try (JsonStreamReader reader = new JsonStreamReader(new BufferedReader(new FileReader(file)))) {
+            return readJsonSnapshot(reader, IS_PARSING_IN_PARALLEL && file.length() <= MAX_PARALLEL_JSON_SIZE);
         }
-        return new ToDoList();
     }
 
     /**
-     * Parses save data into a book.
+     * Reads all lists from the save file as it is streamed, without building a document tree.
+     * When parsing in parallel, the text of each section is held in memory and parsed into its list on the fork-join
+     * pool, so the sections are parsed concurrently while the rest of the file is still being read. As this holds
+     * the text alongside the lists built from it, it is only done for save files of up to
+     * {@link #MAX_PARALLEL_JSON_SIZE} bytes; larger ones are parsed straight from the stream.
      *
-     * @param json JSON serialized save data.
-     * @return Saved book details.
-     * @throws NullPointerException If fields are missing or corrupted.
+     * @param reader Reader over the save file.
+     * @param isParsingInParallel Whether sections are parsed concurrently from their text.
+     * @return Sequence number of the last journal change contained in the save file.
+     * @throws IOException If the save file is malformed or cannot be read.
      */
-    private Book parseBookObject(JSONObject json) throws NullPointerException {
-        JSONObject authorObj = (JSONObject) json.get("author");
-        Author author = parseAuthorObject(authorObj);
-        String title = (String) json.get("title");
-        boolean isDone = (boolean) json.get("isDone");
-        JSONArray array = (JSONArray) json.get("categories");
-        long rating = (long) json.get("rating");
-        ArrayList<String> categories = (ArrayList<String>) array.stream()
-                .collect(Collectors.toList());
-        return new Book(author, title, isDone, categories, (int) rating);
+    private long readJsonSnapshot(JsonStreamReader reader, boolean isParsingInParallel) throws IOException {
+        HashMap<String, QuotesifyList<?>> lists = new HashMap<>();
+        HashMap<String, ForkJoinTask<QuotesifyList<?>>> sectionTasks = new HashMap<>();
+        long sequence = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+            case JOURNAL_SEQUENCE:
+                sequence = reader.nextLong();
+                break;
+            case BOOKS:
+            case QUOTES:
+            case CATEGORIES:
+            case RATINGS:
+            case BOOKMARKS:
+            case TODOS:
+                if (isParsingInParallel) {
+                    String sectionJson = reader.nextRawValue();
+                    sectionTasks.put(name, ForkJoinPool.commonPool().submit(() -> readJsonSection(name, sectionJson)));
+                } else {
+                    lists.put(name, SaveDataReader.readList(name, reader));
+                }
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+        reader.endDocument();
+
+        for (String section : sectionTasks.keySet()) {
+            try {
+                lists.put(section, sectionTasks.get(section).get());
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+        updateListManager(lists);
+        return sequence;
     }
 
     /**
-     * Parses save data into a quote.
+     * Parses the text of a save file section into its list.
      *
-     * @param json JSON serialized save data.
-     * @return Saved quote details.
-     * @throws NullPointerException If fields are missing or corrupted.
+     * @param section Section name.
+     * @param sectionJson JSON text of the section value.
+     * @return List of saved model objects, or null if the section is corrupted.
+     * @throws IOException If the section is malformed.
      */
-    private Quote parseQuoteObject(JSONObject json) throws NullPointerException {
-        JSONObject authorObj = (JSONObject) json.get("author");
-        Author author = parseAuthorObject(authorObj);
-        String quote = (String) json.get("quote");
-        String reference = (String) json.get("reference");
-        String reflection = (String) json.get("reflection");
-        JSONArray array = (JSONArray) json.get("categories");
-        ArrayList<String> categories = (ArrayList<String>) array.stream()
-                .collect(Collectors.toList());
-        return new Quote(author, quote, categories, reference, reflection);
+    private static QuotesifyList<?> readJsonSection(String section, String sectionJson) throws IOException {
+        try (JsonStreamReader reader = new JsonStreamReader(new StringReader(sectionJson))) {
+            QuotesifyList<?> list = SaveDataReader.readList(section, reader);
+            reader.endDocument();
+            return list;
+        }
     }
 
     /**
-     * Parses save data into a category.
+     * Updates all lists in list manager with saved data.
+     * Books saved without an identifier are assigned one.
      *
-     * @param json JSON serialized save data.
-     * @return Saved category details.
-     * @throws NullPointerException If fields are missing or corrupted.
+     * @param lists Saved lists by section name.
+     */
+    private void updateListManager(HashMap<String, QuotesifyList<?>> lists) {
+        ListManager.addToList(ListManager.BOOK_LIST, getSavedList(lists, BOOKS, new BookList()));
+        ListManager.addToList(ListManager.QUOTE_LIST, getSavedList(lists, QUOTES, new QuoteList()));
+        ListManager.addToList(ListManager.CATEGORY_LIST, getSavedList(lists, CATEGORIES, new CategoryList()));
+        ListManager.addToList(ListManager.RATING_LIST, getSavedList(lists, RATINGS, new RatingList()));
+        ListManager.addToList(ListManager.BOOKMARK_LIST, getSavedList(lists, BOOKMARKS, new BookmarkList()));
+        ListManager.addToList(ListManager.TODO_LIST, getSavedList(lists, TODOS, new ToDoList()));
+
+        if (((BookList) ListManager.getList(ListManager.BOOK_LIST)).assignMissingIds()) {
+            staleSections.add(BOOKS);
+        }
+    }
+
+    /**
+     * Links the loaded lists to each other once all saved changes have been applied.
+     * Saved book references are resolved to the books in the book list, and categories are filled in.
      */
-    private Category parseCategoryObject(JSONObject json) throws NullPointerException {
-        String name = (String) json.get("category");
+    private void linkLists() {
         BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
-        QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
+        bookList.reindex();
+        ((QuoteList) ListManager.getList(ListManager.QUOTE_LIST)).reindex();
+        if (((BookmarkList) ListManager.getList(ListManager.BOOKMARK_LIST)).resolveBooks(bookList)) {
+            staleSections.add(BOOKMARKS);
+        }
+        if (((RatingList) ListManager.getList(ListManager.RATING_LIST)).resolveBooks(bookList)) {
+            staleSections.add(RATINGS);
+        }
+        CategoryList categoryList = (CategoryList) ListManager.getList(ListManager.CATEGORY_LIST);
+        categoryList.updateListsInAllCategories();
+    }
 
-        Category category = new Category(name);
-        category.setBookList(bookList.filterByCategory(name));
-        category.setQuoteList(quoteList.filterByCategory(name));
-        return category;
+    /**
+     * Returns the saved list of a section, or an empty list if the section is missing or corrupted.
+     *
+     * @param lists Saved lists by section name.
+     * @param section Section name.
+     * @param emptyList Empty list to fall back on.
+     * @return List to be used.
+     */
+    private QuotesifyList<?> getSavedList(HashMap<String, QuotesifyList<?>> lists, String section,
+            QuotesifyList<?> emptyList) {
+        QuotesifyList<?> list = lists.get(section);
+        if (list == null) {
+            System.out.printf(DATA_CORRUPT_MESSAGE, section);
+            return emptyList;
+        }
+        return list;
     }
 
     /**
-     * Parses save data into a rating.
+     * Replays journal entries newer than the snapshot onto the loaded lists.
+     * The journal is only replayed if it carries on right after the snapshot. A snapshot restored from its backup
+     * can be older than the start of the journal, and the positions in the journal then refer to lists that
+     * are not the ones loaded, so its entries are discarded instead of being applied to the wrong items.
      *
-     * @param json JSON serialized save data.
-     * @return Saved rating details.
-     * @throws NullPointerException If fields are missing or corrupted.
+     * @param snapshotSequence Sequence number of the last change contained in the snapshot.
      */
-    private Rating parseRatingObject(JSONObject json) throws NullPointerException {
-        String title = (String) json.get("titleOfRatedBook");
-        String name = (String) json.get("authorOfRatedBook");
-        Author author = new Author(name);
-        long rating = (long) json.get("rating");
-        return new Rating(new Book(author, title), (int) rating);
+    private void replayJournal(long snapshotSequence) {
+        ArrayList<JournalEntry> entries = journal.readEntriesAfter(snapshotSequence);
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (sectionSequences.isEmpty() && entries.get(0).getSequence() != snapshotSequence + 1) {
+            System.out.println(CHANGES_DISCARDED_MESSAGE);
+            journal.markCorrupted();
+            return;
+        }
+
+        HashSet<String> discardedSections = new HashSet<>();
+        for (JournalEntry entry : entries) {
+            String section = entry.getListName();
+            long sectionSequence = sectionSequences.getOrDefault(section, snapshotSequence);
+            if (entry.getSequence() <= sectionSequence || discardedSections.contains(section)) {
+                continue;
+            }
+            if (restoredSections.contains(section) && !isJournalContinuingFrom(sectionSequence)) {
+                discardedSections.add(section);
+                discardJournalEntries(section);
+                continue;
+            }
+            staleSections.add(section);
+            try {
+                applyJournalEntry(entry, ListManager.getList(getListType(section)));
+            } catch (RuntimeException e) {
+                System.out.printf(DATA_CORRUPT_MESSAGE, "journal");
+                journal.markCorrupted();
+                break;
+            }
+        }
     }
 
     /**
-     * Parses save data into a bookmark.
+     * Checks if the journal carries on from a segment, so that it holds every change made since the segment.
+     * Entries of other sections come in between those of a section, so this is decided by where the journal
+     * starts rather than by the entries of the section.
      *
-     * @param json JSON serialized save data.
-     * @return Saved bookmark details.
-     * @throws NullPointerException If fields are missing or corrupted.
+     * @param segmentSequence Sequence number of the last change contained in the segment, or null if it is unknown.
+     * @return True if no change made since the segment is missing from the journal.
      */
-    private Bookmark parseBookmarkObject(JSONObject json) throws NullPointerException {
-        JSONObject bookObj = (JSONObject) json.get("book");
-        Book book = parseBookObject(bookObj);
-        long pageNum = (long) json.get("pageNum");
-        return new Bookmark(book, (int) pageNum);
+    private boolean isJournalContinuingFrom(Long segmentSequence) {
+        return segmentSequence != null && journal.getStartSequence() <= segmentSequence;
     }
 
     /**
-     * Parses save data into a todo.
+     * Tells the user that the journal changes of a section cannot be replayed onto its restored segment,
+     * and has the journal folded into a new snapshot so that the restored list is saved without them.
      *
-     * @param json JSON serialized save data.
-     * @return Saved todo details.
-     * @throws NullPointerException If fields are missing or corrupted.
+     * @param section Section name.
      */
-    private ToDo parseTodoObject(JSONObject json) throws NullPointerException {
-        String name = (String) json.get("name");
-        String deadline = (String) json.get("deadline");
-        boolean isDone = (boolean) json.get("isDone");
-        ToDo newToDo = new ToDo(name, deadline, isDone);
-        newToDo.updateDateFormat();
-        return newToDo;
+    private void discardJournalEntries(String section) {
+        System.out.printf(SECTION_CHANGES_DISCARDED_MESSAGE, section);
+        staleSections.add(section);
+        journal.markCorrupted();
     }
 
     /**
-     * Parses save data into an author.
+     * Applies a single journal entry to the list it was recorded on.
      *
-     * @param json JSON serialized save data.
-     * @return Saved author details.
+     * @param entry Journal entry.
+     * @param savedList List the entry was recorded on.
      */
-    private Author parseAuthorObject(JSONObject json) {
-        try {
-            String authorName = (String) json.get("name");
-            return new Author(authorName);
-        } catch (NullPointerException e) {
-            return null;
+    @SuppressWarnings("unchecked")
+    private void applyJournalEntry(JournalEntry entry, QuotesifyList<?> savedList) {
+        int index = entry.getIndex();
+        QuotesifyList<JsonSerializer> list = (QuotesifyList<JsonSerializer>) savedList;
+
+        switch (entry.getOperation()) {
+        case ListChange.ADD:
+            list.getList().add(index, Objects.requireNonNull(entry.getItem()));
+            break;
+        case ListChange.DELETE:
+            list.getList().remove(index);
+            break;
+        case ListChange.UPDATE:
+            list.getList().set(index, Objects.requireNonNull(entry.getItem()));
+            break;
+        case ListChange.SORT:
+            list.sort();
+            break;
+        default:
+            throw new IllegalArgumentException(entry.getOperation());
+        }
+    }
+
+    /**
+     * Marks every section as changed, so that all of them are written with the next snapshot.
+     */
+    private void markAllSectionsStale() {
+        for (int type : LIST_TYPES) {
+            staleSections.add(getSectionName(type));
+        }
+    }
+
+    /**
+     * Forgets the recorded changes of all loaded lists.
+     */
+    private void clearAllChanges() {
+        for (int type : LIST_TYPES) {
+            if (ListManager.isLoaded(type)) {
+                ListManager.getList(type).clearChanges();
+            }
+        }
+    }
+
+    /**
+     * Returns a new empty list of a list type.
+     *
+     * @param type List type in list manager.
+     * @return Empty list.
+     */
+    private QuotesifyList<?> createEmptyList(int type) {
+        switch (type) {
+        case ListManager.BOOK_LIST:
+            return new BookList();
+        case ListManager.QUOTE_LIST:
+            return new QuoteList();
+        case ListManager.CATEGORY_LIST:
+            return new CategoryList();
+        case ListManager.BOOKMARK_LIST:
+            return new BookmarkList();
+        case ListManager.RATING_LIST:
+            return new RatingList();
+        default:
+            return new ToDoList();
+        }
+    }
+
+    /**
+     * Returns the save file section name of a list.
+     *
+     * @param type List type in list manager.
+     * @return Section name.
+     */
+    private String getSectionName(int type) {
+        switch (type) {
+        case ListManager.BOOK_LIST:
+            return BOOKS;
+        case ListManager.QUOTE_LIST:
+            return QUOTES;
+        case ListManager.CATEGORY_LIST:
+            return CATEGORIES;
+        case ListManager.BOOKMARK_LIST:
+            return BOOKMARKS;
+        case ListManager.RATING_LIST:
+            return RATINGS;
+        default:
+            return TODOS;
+        }
+    }
+
+    /**
+     * Returns the list type of a save file section.
+     *
+     * @param section Section name.
+     * @return List type in list manager.
+     */
+    static int getListType(String section) {
+        switch (section) {
+        case BOOKS:
+            return ListManager.BOOK_LIST;
+        case QUOTES:
+            return ListManager.QUOTE_LIST;
+        case CATEGORIES:
+            return ListManager.CATEGORY_LIST;
+        case BOOKMARKS:
+            return ListManager.BOOKMARK_LIST;
+        case RATINGS:
+            return ListManager.RATING_LIST;
+        case TODOS:
+            return ListManager.TODO_LIST;
+        default:
+            throw new IllegalArgumentException(section);
         }
     }
 }
@@ -2,6 +2,7 @@ package seedu.quotesify.todo;
 
 import org.json.simple.JSONArray;
 
+import seedu.quotesify.lists.ListChange;
 import seedu.quotesify.lists.QuotesifyList;
 
 import java.util.ArrayList;
@@ -37,6 +38,7 @@ public class ToDoList extends QuotesifyList<ToDo> {
      */
     public void add(ToDo newToDo) {
         todos.add(newToDo);
+        recordChange(ListChange.ADD, todos.size() - 1, newToDo);
     }
 
     /**
@@ -72,13 +74,22 @@ public class ToDoList extends QuotesifyList<ToDo> {
     public void delete(int taskNum) {
         int indexNum = taskNum - 1;
         todos.remove(indexNum);
+        recordChange(ListChange.DELETE, indexNum, null);
     }
 
     /**
      * Sort the ToDoList in ascending order of their deadline.
      */
     public void sortByDate() {
-        todos.sort(Comparator.comparing(todo -> todo.getFormattedDeadline()));
+        sortBy(Comparator.comparing(todo -> todo.getFormattedDeadline()));
+    }
+
+    /**
+     * Sorts the ToDoList by deadline, which is its natural order.
+     */
+    @Override
+    public void sort() {
+        sortByDate();
     }
 
     /**
@@ -88,15 +99,15 @@ public class ToDoList extends QuotesifyList<ToDo> {
      */
     @Override
     public String toString() {
-        String toDosToReturn = "";
+        StringBuilder toDosToReturn = new StringBuilder();
         int taskNum = 0;
 
         for (ToDo toDo : todos) {
             taskNum++;
-            toDosToReturn +=  taskNum + "." + toDo.toString() + System.lineSeparator();
+            toDosToReturn.append(taskNum).append(".").append(toDo.toString()).append(System.lineSeparator());
         }
 
-        return toDosToReturn;
+        return toDosToReturn.toString();
     }
 
     /**
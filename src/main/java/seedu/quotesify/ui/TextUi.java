@@ -7,6 +7,7 @@ import seedu.quotesify.book.BookList;
 import seedu.quotesify.category.Category;
 import seedu.quotesify.category.CategoryList;
 import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.lists.QueryResult;
 import seedu.quotesify.quote.Quote;
 import seedu.quotesify.quote.QuoteList;
 import seedu.quotesify.rating.Rating;
@@ -14,7 +15,11 @@ import seedu.quotesify.rating.RatingList;
 import seedu.quotesify.todo.ToDo;
 import seedu.quotesify.todo.ToDoList;
 
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Scanner;
+import java.util.function.Function;
 
 /**
  * Represents the UI component of Quotesify.
@@ -45,12 +50,69 @@ public class TextUi {
         System.out.println(UiMessage.GOODBYE_MESSAGE);
     }
 
+    /**
+     * Reads the next command entered by the user.
+     *
+     * @return Trimmed user command, or null if there is no more input.
+     */
     public String getUserCommand() {
         System.out.println(UiMessage.PROMPT_MESSAGE);
         if (in.hasNextLine()) {
             return in.nextLine().trim();
         }
-        return "bye";
+        return null;
+    }
+
+    /**
+     * Prints items one per line, each after its position in the list.
+     *
+     * @param items Items to be printed.
+     */
+    public void printNumbered(Iterable<?> items) {
+        printNumbered(items, ". ", String::valueOf);
+    }
+
+    /**
+     * Prints items one per line, each after its position in the list and a separator.
+     * The items are written straight to standard output, so no text for the whole list is built up.
+     *
+     * @param items Items to be printed.
+     * @param separator Text between the position and the item.
+     * @param format Function returning the text of an item.
+     * @param <T> Type of item.
+     */
+    public <T> void printNumbered(Iterable<T> items, String separator, Function<T, String> format) {
+        PrintWriter writer = new PrintWriter(System.out);
+        writeNumbered(writer, items, separator, format);
+        writer.flush();
+    }
+
+    /**
+     * Writes items to a writer one per line, each after its position in the list and a separator.
+     *
+     * @param writer Writer the items are written to.
+     * @param items Items to be written.
+     * @param separator Text between the position and the item.
+     * @param format Function returning the text of an item.
+     * @param <T> Type of item.
+     */
+    public static <T> void writeNumbered(PrintWriter writer, Iterable<T> items, String separator,
+            Function<T, String> format) {
+        int position = 0;
+        for (T item : items) {
+            writer.print(++position);
+            writer.print(separator);
+            writer.println(format.apply(item));
+        }
+    }
+
+    /**
+     * Prints the books in a BookList one per line, each after its position and completion status.
+     *
+     * @param bookList BookList of books to be printed.
+     */
+    private void printNumberedBooks(BookList bookList) {
+        printNumbered(bookList.getList(), ". ", book -> book.getStatusIcon() + book);
     }
 
     public void printDividerLine() {
@@ -107,7 +169,7 @@ public class TextUi {
      */
     public void printListDoneBook(BookList bookList) {
         System.out.println(UiMessage.LIST_DONE_BOOK_MESSAGE);
-        System.out.print(bookList.toStringWithIndex());
+        printNumberedBooks(bookList);
     }
 
     /**
@@ -117,7 +179,7 @@ public class TextUi {
      */
     public void printListUndoneBook(BookList bookList) {
         System.out.println(UiMessage.LIST_UNDONE_BOOK_MESSAGE);
-        System.out.print(bookList.toStringWithIndex());
+        printNumberedBooks(bookList);
     }
 
     /**
@@ -126,7 +188,7 @@ public class TextUi {
      */
     public void printAllBooks(BookList bookList) {
         System.out.println(UiMessage.LIST_BOOKS_MESSAGE);
-        System.out.print(bookList.toStringWithIndex());
+        printNumberedBooks(bookList);
     }
 
     /**
@@ -147,7 +209,7 @@ public class TextUi {
      */
     public void printBooksByAuthor(BookList bookList, String authorName) {
         System.out.printf(UiMessage.LIST_BOOKS_BY_AUTHOR_MESSAGE + "\n", authorName);
-        System.out.print(bookList.toStringWithIndex());
+        printNumberedBooks(bookList);
     }
 
     /**
@@ -158,7 +220,7 @@ public class TextUi {
      */
     public void printBooksByKeyword(BookList bookList, String keyword) {
         System.out.printf(UiMessage.LIST_BOOKS_BY_KEYWORD_MESSAGE + "\n", keyword);
-        System.out.print(bookList.toStringWithIndex());
+        printNumberedBooks(bookList);
     }
 
     //@@author nat-ho
@@ -169,7 +231,7 @@ public class TextUi {
     public void printAllQuotes(QuoteList quotes) {
         if (quotes.getSize() > 0) {
             System.out.println(UiMessage.LIST_ALL_QUOTES);
-            System.out.println(quotes);
+            printNumbered(quotes.getList());
         } else {
             System.out.println(UiMessage.LIST_NO_QUOTES_SAVED_MESSAGE);
         }
@@ -179,12 +241,12 @@ public class TextUi {
         if (quoteList.getSize() == 0) {
             System.out.println(UiMessage.LIST_NO_QUOTES_SAVED_MESSAGE);
         }
-        String listToPrint = quoteList.getQuotesByAuthor(authorName);
-        if (listToPrint.isEmpty()) {
+        QueryResult<Quote> quotesToPrint = quoteList.getQuotesByAuthor(authorName);
+        if (quotesToPrint.isEmpty()) {
             System.out.println(UiMessage.LIST_NO_QUOTES_FOUND_MESSAGE);
         } else {
             System.out.printf((UiMessage.LIST_QUOTES_BY_AUTHOR_MESSAGE) + "\n", authorName);
-            System.out.println(listToPrint);
+            printNumbered(quotesToPrint);
         }
     }
 
@@ -192,12 +254,12 @@ public class TextUi {
         if (quoteList.getSize() == 0) {
             System.out.println(UiMessage.LIST_NO_QUOTES_SAVED_MESSAGE);
         }
-        String listToPrint = quoteList.getQuotesByReference(reference);
-        if (listToPrint.isEmpty()) {
+        QueryResult<Quote> quotesToPrint = quoteList.getQuotesByReference(reference);
+        if (quotesToPrint.isEmpty()) {
             System.out.println(UiMessage.LIST_NO_QUOTES_FOUND_MESSAGE);
         } else {
             System.out.printf((UiMessage.LIST_QUOTES_BY_REFERENCE_MESSAGE) + "\n", reference);
-            System.out.println(listToPrint);
+            printNumbered(quotesToPrint);
         }
     }
 
@@ -205,12 +267,12 @@ public class TextUi {
         if (quoteList.getSize() == 0) {
             System.out.println(UiMessage.LIST_NO_QUOTES_SAVED_MESSAGE);
         }
-        String listToPrint = quoteList.getQuotesByReferenceAndAuthor(reference, authorName);
-        if (listToPrint.isEmpty()) {
+        QueryResult<Quote> quotesToPrint = quoteList.getQuotesByReferenceAndAuthor(reference, authorName);
+        if (quotesToPrint.isEmpty()) {
             System.out.println(UiMessage.LIST_NO_QUOTES_FOUND_MESSAGE);
         } else {
             System.out.printf(UiMessage.LIST_QUOTES_BY_AUTHOR_AND_REFERENCE_MESSAGE + "\n", reference, authorName);
-            System.out.println(listToPrint);
+            printNumbered(quotesToPrint);
         }
     }
 
@@ -253,9 +315,85 @@ public class TextUi {
         System.out.println(UiMessage.FIND_QUOTE_FAIL);
     }
 
-    public void printFindQuoteSuccess(String results) {
+    public void printFindQuoteSuccess(QueryResult<Quote> results) {
         System.out.println(UiMessage.FIND_QUOTE_SUCCESS);
-        System.out.println(results);
+        printNumbered(results);
+    }
+
+    /**
+     * Prints the quotes that are nearly the same as a quote being added, each after its position in the list.
+     *
+     * @param quoteList List of quotes.
+     * @param similarQuotes Similar quotes in list order.
+     */
+    public void printSimilarQuotes(QuoteList quoteList, ArrayList<Quote> similarQuotes) {
+        System.out.println(UiMessage.SIMILAR_QUOTES_MESSAGE);
+        for (Quote quote : similarQuotes) {
+            System.out.println((quoteList.getIndex(quote) + 1) + ". " + quote);
+        }
+    }
+
+    /**
+     * Prints how many rows of a file have been read so far during an import.
+     *
+     * @param rowCount Number of rows read.
+     */
+    public void printImportProgress(int rowCount) {
+        System.out.printf(UiMessage.IMPORT_PROGRESS_MESSAGE + "\n", rowCount);
+    }
+
+    /**
+     * Prints why a row of a file was skipped during an import.
+     *
+     * @param rowNumber Number of the row in the file.
+     * @param reason Error message for the row.
+     */
+    public void printSkippedImportRow(int rowNumber, String reason) {
+        System.out.printf(UiMessage.IMPORT_SKIPPED_ROW_MESSAGE + "\n", rowNumber, reason);
+    }
+
+    /**
+     * Prints the outcome of an import.
+     *
+     * @param addedCount Number of items added.
+     * @param itemName Name of the items imported.
+     * @param duplicateCount Number of rows skipped as they were already added.
+     * @param invalidCount Number of rows skipped as they were invalid.
+     */
+    public void printImportSummary(int addedCount, String itemName, int duplicateCount, int invalidCount) {
+        System.out.printf(UiMessage.IMPORT_SUMMARY_MESSAGE + "\n", addedCount, itemName, duplicateCount,
+                invalidCount);
+    }
+
+    /**
+     * Prints how many items were exported to a file.
+     *
+     * @param exportedCount Number of items exported.
+     * @param itemName Name of the items exported.
+     * @param filePath Path of the file exported to.
+     */
+    public void printExport(int exportedCount, String itemName, String filePath) {
+        System.out.printf(UiMessage.EXPORT_MESSAGE + "\n", exportedCount, itemName, filePath);
+    }
+
+    /**
+     * Prints each group of quotes that are the same or nearly the same, each quote after its position in the list.
+     *
+     * @param quoteList List of quotes.
+     * @param clusters Groups of similar quotes, each in list order.
+     */
+    public void printDuplicateQuotes(QuoteList quoteList, ArrayList<ArrayList<Quote>> clusters) {
+        if (clusters.isEmpty()) {
+            System.out.println(UiMessage.LIST_NO_DUPLICATE_QUOTES_MESSAGE);
+            return;
+        }
+        System.out.println(UiMessage.LIST_DUPLICATE_QUOTES_MESSAGE);
+        for (int i = 0; i < clusters.size(); i++) {
+            System.out.println("Group " + (i + 1) + ":");
+            for (Quote quote : clusters.get(i)) {
+                System.out.println("    " + (quoteList.getIndex(quote) + 1) + ". " + quote);
+            }
+        }
     }
     //@@author
 
@@ -334,7 +472,8 @@ public class TextUi {
             return;
         }
         System.out.println(UiMessage.LIST_CATEGORIES_MESSAGE);
-        System.out.println(categoryList.toString());
+        printNumbered(categoryList.getList());
+        System.out.println();
     }
 
     /**
@@ -345,7 +484,8 @@ public class TextUi {
      */
     public void printMatchingCategories(CategoryList categoryList, String keyword) {
         System.out.printf(UiMessage.FIND_CATEGORIES_MESSAGE + "\n", keyword);
-        System.out.println(categoryList.toString());
+        printNumbered(categoryList.getList());
+        System.out.println();
     }
 
     /**
@@ -367,18 +507,18 @@ public class TextUi {
     }
 
     /**
-     * Prints all books tagged under the category.
+     * Prints all books tagged under the category, in the order of the book list.
      *
      * @param category Category object.
      */
     public void printAllBooksInCategory(Category category) {
-        BookList bookList = category.getBookList();
         BookList allBooks = (BookList) ListManager.getList(ListManager.BOOK_LIST);
-        if (bookList.getList().size() > 0) {
+        if (!category.getBooks().isEmpty()) {
             System.out.println("BOOKS:");
-            for (Book book : bookList.getList()) {
-                int index = allBooks.getIndex(book) + 1;
-                System.out.println(index + ". " + book.toString());
+            ArrayList<Book> books = new ArrayList<>(category.getBooks());
+            books.sort(Comparator.comparingInt(allBooks::getIndex));
+            for (Book book : books) {
+                System.out.println((allBooks.getIndex(book) + 1) + ". " + book.toString());
             }
         }
     }
@@ -394,18 +534,18 @@ public class TextUi {
     }
 
     /**
-     * Prints all quotes tagged under the category.
+     * Prints all quotes tagged under the category, in the order of the quote list.
      *
      * @param category Category object.
      */
     public void printAllQuotesInCategory(Category category) {
-        QuoteList quoteList = category.getQuoteList();
         QuoteList allQuotes = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
-        if (quoteList.getList().size() > 0) {
+        if (!category.getQuotes().isEmpty()) {
             System.out.println("QUOTES:");
-            for (Quote quote : quoteList.getList()) {
-                int index = allQuotes.getIndex(quote) + 1;
-                System.out.println(index + ". " + quote.toString());
+            ArrayList<Quote> quotes = new ArrayList<>(category.getQuotes());
+            quotes.sort(Comparator.comparingInt(allQuotes::getIndex));
+            for (Quote quote : quotes) {
+                System.out.println((allQuotes.getIndex(quote) + 1) + ". " + quote.toString());
             }
         }
     }
@@ -422,7 +562,9 @@ public class TextUi {
             return;
         }
         System.out.println(UiMessage.LIST_ALL_RATINGS_MESSAGE);
-        System.out.print(ratingList.toString());
+        for (Rating rating : ratingList.getList()) {
+            System.out.println(rating.toString());
+        }
     }
 
     public void printSpecifiedRating(RatingList ratings, int ratingToPrint) {
@@ -442,12 +584,10 @@ public class TextUi {
         System.out.printf((UiMessage.EDIT_RATING_MESSAGE) + "\n", title, author, ratingScore);
     }
 
-    public void printFoundRating(RatingList ratings, String keyword) {
+    public void printFoundRating(ArrayList<Rating> ratings) {
         System.out.println(UiMessage.FIND_RATING_MESSAGE);
-        for (Rating rating : ratings.getList()) {
-            if (rating.getTitle().toLowerCase().contains(keyword)) {
-                System.out.println(rating.toString());
-            }
+        for (Rating rating : ratings) {
+            System.out.println(rating.toString());
         }
     }
     //@@author
@@ -466,7 +606,8 @@ public class TextUi {
     public void printAllToDos(ToDoList toDoList) {
         if (toDoList.getSize() > 0) {
             System.out.println(UiMessage.LIST_TODOS_MESSAGE);
-            System.out.println(toDoList.toString());
+            printNumbered(toDoList.getList(), ".", ToDo::toString);
+            System.out.println();
         } else {
             System.out.println(UiMessage.EMPTY_TODO_LIST_MESSAGE);
         }
@@ -495,7 +636,8 @@ public class TextUi {
     public void printAllBookmarks(BookmarkList bookmarkList) {
         if (bookmarkList.getSize() > 0) {
             System.out.println(UiMessage.LIST_BOOKMARKS_MESSAGE);
-            System.out.println(bookmarkList.toString());
+            printNumbered(bookmarkList.getList());
+            System.out.println();
         } else {
             System.out.println(UiMessage.EMPTY_BOOKMARK_LIST_MESSAGE);
         }
@@ -520,6 +662,7 @@ public class TextUi {
         System.out.println(UiMessage.LIST_BOOK_DETAILS);
         System.out.println(UiMessage.LIST_BOOK_COMPLETE);
         System.out.println(UiMessage.FIND_BOOK_COMMAND);
+        System.out.println(UiMessage.IMPORT_BOOK_COMMAND);
         System.out.println(UiMessage.DIVIDER_LINE);
 
         System.out.println("                                2. Quote Management");
@@ -533,6 +676,8 @@ public class TextUi {
         System.out.println(UiMessage.DELETE_QUOTE_REFLECTION_COMMAND);
         System.out.println(UiMessage.EDIT_QUOTE_REFLECTION_COMMAND);
         System.out.println(UiMessage.LIST_QUOTE_REFLECTION_COMMAND);
+        System.out.println(UiMessage.LIST_QUOTE_DUPLICATES_COMMAND);
+        System.out.println(UiMessage.IMPORT_QUOTE_COMMAND);
         System.out.println(UiMessage.DIVIDER_LINE);
 
         System.out.println("                                3a. Bookmark Tracker");
@@ -571,6 +716,7 @@ public class TextUi {
 
         System.out.println("                                Other useful commands");
         System.out.println(UiMessage.DIVIDER_LINE);
+        System.out.println(UiMessage.EXPORT_COMMAND);
         System.out.println("Show this help page:                                             " + "help");
         System.out.println("Quit Quotesify:                                                  " + "bye");
         System.out.println(UiMessage.DIVIDER_LINE);
@@ -626,6 +772,7 @@ public class TextUi {
         System.out.println(UiMessage.LIST_BOOKMARK_COMMAND);
         System.out.println(UiMessage.LIST_QUOTE_COMMAND);
         System.out.println(UiMessage.LIST_QUOTE_REFLECTION_COMMAND);
+        System.out.println(UiMessage.LIST_QUOTE_DUPLICATES_COMMAND);
         System.out.println(UiMessage.LIST_CATEGORY_COMMAND);
         System.out.println(UiMessage.LIST_RATING_COMMAND);
         System.out.println(UiMessage.LIST_TODO_COMMAND);
@@ -66,6 +66,14 @@ public class UiMessage {
     public static final String EDIT_QUOTE_MESSAGE = "The quote has been edited from: [%s] to [%s]!";
     public static final String FIND_QUOTE_SUCCESS = "Here are the results of my search:";
     public static final String FIND_QUOTE_FAIL = "None of your quotes matches the keyword!";
+    public static final String SIMILAR_QUOTES_MESSAGE = "Heads up, it looks a lot like these quotes you already have:";
+    public static final String LIST_DUPLICATE_QUOTES_MESSAGE = "Here are the quotes that look alike:";
+    public static final String LIST_NO_DUPLICATE_QUOTES_MESSAGE = "None of your quotes look alike!";
+    public static final String IMPORT_PROGRESS_MESSAGE = "Read %d row(s) so far...";
+    public static final String IMPORT_SKIPPED_ROW_MESSAGE = "Skipped row %d: %s";
+    public static final String EXPORT_MESSAGE = "Exported %d %s to [%s]!";
+    public static final String IMPORT_SUMMARY_MESSAGE = "Imported %d %s! "
+            + "Skipped %d duplicate(s) and %d invalid row(s).";
     public static final String ADD_QUOTE_REFLECTION = "Reflection has added been to quote!" + System.lineSeparator()
             + "Quote: %s" + System.lineSeparator() + "Reflection: %s";
     public static final String LIST_QUOTE_REFLECTION = "Here is the reflection you are looking for!"
@@ -94,6 +102,13 @@ public class UiMessage {
     public static final String ADD_BOOKMARK_COMMAND = "Add bookmark:                                                "
             + "    " + "bookmark -b BOOK_TITLE /pg PAGE_NUMBER";
 
+    public static final String IMPORT_BOOK_COMMAND = "Import books:                                                    "
+            + "import -b FILE.csv|FILE.jsonl";
+    public static final String IMPORT_QUOTE_COMMAND = "Import quotes:                                                "
+            + "   " + "import -q FILE.csv|FILE.jsonl";
+    public static final String EXPORT_COMMAND = "Export list:                                                     "
+            + "export {-b | -q | -r | -t} FILE [/by AUTHOR] [/from REFERENCE]";
+
     public static final String DELETE_BOOK_COMMAND = "Delete book:                                                  "
             + "   " + "delete -b BOOK_NUMBER";
     public static final String DELETE_QUOTE_COMMAND = "Delete quote:                                                 "
@@ -123,13 +138,13 @@ public class UiMessage {
             + "     " + "bookmark -b BOOK_NUMBER /pg PAGE_NUMBER";
 
     public static final String FIND_BOOK_COMMAND = "Find book:                                                     "
-            + "  " + "find -b KEYWORD";
+            + "  " + "find -b KEYWORD [/fuzzy]";
     public static final String FIND_QUOTE_COMMAND = "Find quote:                                                   "
-            + "   " + "find -q QUOTE_NUMBER";
+            + "   " + "find -q KEYWORD [/fuzzy|/rank]";
     public static final String FIND_RATING_COMMAND = "Find ratings:                                                 "
-            + "    " + "find -r KEYWORD";
+            + "    " + "find -r KEYWORD [/fuzzy]";
     public static final String FIND_CATEGORY_COMMAND = "Find category:                                              "
-            + "     " + "find -c KEYWORD";
+            + "     " + "find -c KEYWORD [/fuzzy]";
 
     public static final String LIST_BOOK_COMMAND = "List books:                                                      "
             + "list -b [/by AUTHOR]";
@@ -141,6 +156,8 @@ public class UiMessage {
             + "list -q [/by AUTHOR] [/from BOOK_TITLE]";
     public static final String LIST_QUOTE_REFLECTION_COMMAND = "List quote reflection:                               "
             + "            " + "list -qr QUOTE_NUMBER";
+    public static final String LIST_QUOTE_DUPLICATES_COMMAND = "List duplicate quotes:                               "
+            + "            " + "list -qd";
     public static final String LIST_BOOKMARK_COMMAND = "List bookmarks:                                             "
             + "     " + "list -bm";
     public static final String LIST_TODO_COMMAND = "List tasks:                                                      "
@@ -0,0 +1,43 @@
+package seedu.quotesify.author;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.quotesify.lists.ListManager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+class AuthorDirectoryTest {
+
+    @BeforeEach
+    void setUp() {
+        AuthorDirectory.clear();
+    }
+
+    @Test
+    void intern_sameNormalizedName_sameAuthorWithFirstName() {
+        Author author = AuthorDirectory.intern("JK Rowling");
+        assertSame(author, AuthorDirectory.intern("jk  rowling"));
+        assertEquals("JK Rowling", AuthorDirectory.intern("JK ROWLING").getName());
+    }
+
+    @Test
+    void intern_afterClear_newAuthor() {
+        Author author = AuthorDirectory.intern("JM Barrie");
+        AuthorDirectory.clear();
+        assertNotSame(author, AuthorDirectory.intern("JM Barrie"));
+    }
+
+    @Test
+    void intern_savedNameFromEarlierList_earlierListNameKept() {
+        Author author = AuthorDirectory.intern("jk rowling", ListManager.QUOTE_LIST);
+        assertSame(author, AuthorDirectory.intern("JK Rowling", ListManager.BOOK_LIST));
+        assertEquals("JK Rowling", author.getName());
+
+        AuthorDirectory.intern("Jk ROWLING", ListManager.BOOK_LIST);
+        AuthorDirectory.intern("jk ROWLING", ListManager.QUOTE_LIST);
+        AuthorDirectory.intern("JK ROWLING");
+        assertEquals("JK Rowling", author.getName());
+    }
+}
@@ -3,9 +3,16 @@ package seedu.quotesify.book;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.quotesify.author.Author;
+import seedu.quotesify.bookmark.Bookmark;
+import seedu.quotesify.bookmark.BookmarkList;
 import seedu.quotesify.exception.QuotesifyException;
+import seedu.quotesify.lists.ListManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -86,4 +93,117 @@ class BookListTest {
         Book actual = bookList.findByNum(100);
         assertNull(actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    void markUpdated_bookmarkedBook_onlyMarksBookDirty() {
+        ListManager.initialiseAllLists();
+        BookmarkList bookmarkList = (BookmarkList) ListManager.getList(ListManager.BOOKMARK_LIST);
+        bookmarkList.add(new Bookmark(book1, 10));
+        bookmarkList.clearChanges();
+        bookList.clearChanges();
+
+        book1.setDone(true);
+        bookList.markUpdated(book1);
+        assertTrue(bookList.isDirty());
+        assertFalse(bookmarkList.isDirty());
+
+        bookList.clearChanges();
+        assertFalse(bookList.isDirty());
+    }
+
+    @Test
+    void add_newBooks_assignsDistinctIds() {
+        assertTrue(book1.getId() > 0);
+        assertTrue(book2.getId() > 0);
+        assertFalse(book1.getId() == book2.getId());
+        assertEquals(book2, bookList.getBooksById().get(book2.getId()));
+    }
+
+    @Test
+    void assignMissingIds_savedBooksWithoutIds_assignsIdsInListOrder() {
+        Book savedBook = new Book(author1, "Fantastic Beasts");
+        BookList savedBooks = new BookList(new ArrayList<>(Arrays.asList(book1, savedBook)));
+
+        assertTrue(savedBooks.assignMissingIds());
+        assertEquals(book1.getId() + 1, savedBook.getId());
+        assertFalse(savedBooks.assignMissingIds());
+    }
+
+    @Test
+    void add_bookBetweenExistingTitles_insertsInAlphabeticalOrder() {
+        Book book3 = new Book(author1, "harry potter 2");
+        bookList.add(book3);
+        assertEquals(1, bookList.getIndex(book3));
+        assertEquals(book2, bookList.getBook(2));
+    }
+
+    @Test
+    void addAll_unsortedBooks_sortsInAlphabeticalOrder() {
+        Book book3 = new Book(author2, "Wendy");
+        Book book4 = new Book(author1, "a tale");
+        bookList.addAll(Arrays.asList(book3, book4));
+        assertEquals(book4, bookList.getBook(0));
+        assertEquals(book3, bookList.getBook(3));
+        assertFalse(book3.getId() == book4.getId());
+    }
+
+    @Test
+    void updateTitle_newTitle_movesBookToNewPosition() {
+        bookList.updateTitle(book1, "Treasure Island");
+        assertEquals("Treasure Island", book1.getTitle());
+        assertEquals(book2, bookList.getBook(0));
+        assertEquals(book1, bookList.getBook(1));
+    }
+
+    @Test
+    void findByKeyword_extraWhitespaceAndCase_matchesNormalizedTitle() {
+        BookList actualOutput = bookList.findByKeyword("  PETER   pan ");
+        assertEquals(1, actualOutput.getSize());
+        assertEquals(book2, actualOutput.getBook(0));
+    }
+
+    @Test
+    void findByTitle_afterTitleChanged_usesNewTitle() {
+        bookList.updateTitle(book1, "Treasure Island");
+        assertNull(bookList.findByTitle("harry potter"));
+        assertEquals(book1, bookList.findByTitle("treasure island"));
+    }
+
+    @Test
+    void ensureNoSimilarBooks_afterBookDeleted_doesNotThrow() throws QuotesifyException {
+        bookList.delete(bookList.getIndex(book1));
+        bookList.ensureNoSimilarBooks("harry  potter", "jk rowling");
+        assertTrue(bookList.find("Harry Potter", "JK Rowling").isEmpty());
+    }
+
+    @Test
+    void find_sameTitleDifferentAuthors_onlyMatchingAuthor() {
+        Book book3 = new Book(author2, "Harry Potter");
+        bookList.add(book3);
+        assertEquals(Arrays.asList(book3), bookList.find("harry potter", "jm barrie"));
+        assertEquals(book1, bookList.findByTitle("Harry Potter"));
+    }
+
+    @Test
+    void reindex_booksChangedInUnderlyingList_findsChangedBooks() {
+        bookList.findByTitle("Harry Potter");
+        Book book3 = new Book(author1, "Quidditch");
+        bookList.getList().add(book3);
+        bookList.reindex();
+        assertEquals(book3, bookList.findByTitle("quidditch"));
+    }
+
+    @Test
+    void findByKeywordFuzzy_misspeltKeyword_findsBook() {
+        BookList actualOutput = bookList.findByKeywordFuzzy("Hary Poter");
+        assertEquals(1, actualOutput.getSize());
+        assertEquals(book1, actualOutput.getBook(0));
+        assertEquals(book2, bookList.findByKeywordFuzzy("barie").getBook(0));
+    }
+
+    @Test
+    void findByTitleFuzzy_authorName_noBooks() {
+        assertTrue(bookList.findByTitleFuzzy("rowlng").isEmpty());
+        assertEquals(Arrays.asList(book2), bookList.findByTitleFuzzy("petr"));
+    }
+}
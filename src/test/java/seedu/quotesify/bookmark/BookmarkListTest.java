@@ -7,6 +7,9 @@ import seedu.quotesify.book.Book;
 import seedu.quotesify.book.BookList;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class BookmarkListTest {
     private BookList bookList;
@@ -62,7 +65,22 @@ public class BookmarkListTest {
         assertEquals(output, bookmarkList.toString());
     }
 
+    @Test
+    public void resolveBooks_savedReferences_usesBooksInBookList() {
+        bookmarkList.add(new Bookmark(new Book(book2.getId()), 10));
+        bookmarkList.add(new Bookmark(new Book(new Author(authorName1), bookName1), 20));
 
+        assertTrue(bookmarkList.resolveBooks(bookList));
+        assertSame(book2, bookmarkList.findByIndex(2).getBook());
+        assertSame(book1, bookmarkList.findByIndex(3).getBook());
+        assertFalse(bookmarkList.resolveBooks(bookList));
+    }
 
+    @Test
+    public void resolveBooks_missingBook_deletesBookmark() {
+        bookmarkList.add(new Bookmark(new Book(book2.getId() + 100), 10));
 
+        bookmarkList.resolveBooks(bookList);
+        assertEquals(2, bookmarkList.getSize());
+    }
 }
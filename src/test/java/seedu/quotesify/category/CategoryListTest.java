@@ -82,4 +82,65 @@ public class CategoryListTest {
     public void equals() {
         assertEquals("1. romance - (2 items)\n", categoryList.toString());
     }
+
+    @Test
+    public void addBookToCategory_untaggedBook_updatesBookAndCategory() {
+        Book book2 = new Book(new Author("you"), "book2");
+        bookList.add(book2);
+        categoryList.addBookToCategory(category1, book2);
+        assertTrue(book2.getCategories().contains("romance"));
+        assertEquals(3, category1.getSize());
+
+        categoryList.removeBookFromCategory(category1, book2);
+        assertFalse(book2.getCategories().contains("romance"));
+        assertEquals(2, category1.getSize());
+    }
+
+    @Test
+    public void renameCategory_taggedQuote_renamesTagAndIndex() throws QuotesifyException {
+        categoryList.addQuoteToCategory(category1, quote1);
+        categoryList.renameCategory(category1, "drama");
+
+        assertEquals(category1, categoryList.getCategoryByName("drama"));
+        assertFalse(categoryList.isExistingCategory("romance"));
+        assertTrue(quote1.getCategories().contains("drama"));
+        assertFalse(quote1.getCategories().contains("romance"));
+    }
+
+    @Test
+    public void removeFromAllCategories_deletedQuote_removesQuoteFromCategories() {
+        categoryList.addQuoteToCategory(category1, quote1);
+        categoryList.removeFromAllCategories(quote1);
+        assertEquals(0, category1.getQuoteList().getList().size());
+    }
+
+    @Test
+    public void updateListsInAllCategories_taggedItems_groupsItemsByCategory() {
+        Book book2 = new Book(new Author("you"), "book2");
+        bookList.add(book2);
+        book1.getCategories().add("romance");
+        book2.getCategories().add("action");
+        book2.getCategories().add("romance");
+        quote1.getCategories().add("action");
+        Category category2 = new Category("action");
+        categoryList.add(category2);
+
+        categoryList.updateListsInAllCategories();
+        assertEquals(2, category1.getBookList().getSize());
+        assertEquals(0, category1.getQuoteList().getList().size());
+        assertEquals(1, category2.getBookList().getSize());
+        assertEquals(quote1, category2.getQuoteList().getList().get(0));
+    }
+
+    @Test
+    public void findByKeyword_afterCategoriesChanged_matchesCurrentNames() {
+        assertEquals(1, categoryList.findByKeyword("ROM").getList().size());
+        Category category2 = new Category("romantic comedy");
+        categoryList.add(category2);
+        categoryList.renameCategory(category1, "drama");
+
+        assertEquals(category2, categoryList.findByKeyword("roman").getList().get(0));
+        assertEquals(1, categoryList.findByKeyword("roman").getList().size());
+        assertEquals(category1, categoryList.findByKeyword("ama").getList().get(0));
+    }
 }
@@ -8,7 +8,11 @@ import seedu.quotesify.book.BookList;
 import seedu.quotesify.quote.Quote;
 import seedu.quotesify.quote.QuoteList;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CategoryTest {
     private Book book1;
@@ -40,9 +44,19 @@ public class CategoryTest {
         assertEquals("\"quote1\"", category.getQuoteList().getQuote(0).toString());
         assertEquals("romance - (2 items)", category.toString());
 
-        bookList.delete(0);
+        category.removeBook(book1);
         assertEquals(1, category.getSize());
         category.setCategoryName("love");
         assertEquals("love", category.getCategoryName());
     }
+
+    @Test
+    public void getBooks_bookAddedLater_viewReflectsChange() {
+        Category category = new Category("romance");
+        Set<Book> books = category.getBooks();
+        category.addBook(book1);
+        assertTrue(books.contains(book1));
+        assertThrows(UnsupportedOperationException.class, () -> books.remove(book1));
+        assertTrue(category.getQuotes().isEmpty());
+    }
 }
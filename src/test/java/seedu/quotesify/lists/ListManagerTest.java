@@ -0,0 +1,54 @@
+package seedu.quotesify.lists;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.category.CategoryList;
+import seedu.quotesify.todo.ToDoList;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ListManagerTest {
+    private final ArrayList<Integer> loadedTypes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        ListManager.initialiseAllLists();
+    }
+
+    private QuotesifyList<?> load(int type) {
+        loadedTypes.add(type);
+        if (type == ListManager.CATEGORY_LIST) {
+            ListManager.getList(ListManager.BOOK_LIST);
+            return new CategoryList();
+        }
+        return type == ListManager.BOOK_LIST ? new BookList() : new ToDoList();
+    }
+
+    @Test
+    public void getList_lazilyInitialised_loadsOnlyRequestedListOnce() {
+        ListManager.initialiseLazily(this::load);
+        assertFalse(ListManager.isLoaded(ListManager.TODO_LIST));
+
+        QuotesifyList<?> todos = ListManager.getList(ListManager.TODO_LIST);
+        assertSame(todos, ListManager.getList(ListManager.TODO_LIST));
+        assertTrue(ListManager.isLoaded(ListManager.TODO_LIST));
+        assertFalse(ListManager.isLoaded(ListManager.BOOK_LIST));
+        assertEquals(1, loadedTypes.size());
+    }
+
+    @Test
+    public void getList_listWithDependencies_loadsDependenciesToo() {
+        ListManager.initialiseLazily(this::load);
+        ListManager.getList(ListManager.CATEGORY_LIST);
+
+        assertTrue(ListManager.isLoaded(ListManager.BOOK_LIST));
+        assertTrue(ListManager.isLoaded(ListManager.CATEGORY_LIST));
+        assertEquals(2, loadedTypes.size());
+    }
+}
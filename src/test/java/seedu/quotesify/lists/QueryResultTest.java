@@ -0,0 +1,30 @@
+package seedu.quotesify.lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+class QueryResultTest {
+    private final QueryResult<String> results = new QueryResult<>(Arrays.asList("a", "b", "c", "d", "e"));
+
+    @Test
+    void getPage_pagesWithinResults_itemsOnPage() {
+        assertEquals(Arrays.asList("a", "b"), results.getPage(1, 2));
+        assertEquals(Arrays.asList("c", "d"), results.getPage(2, 2));
+        assertEquals(Arrays.asList("e"), results.getPage(3, 2));
+    }
+
+    @Test
+    void getPage_pagePastEnd_empty() {
+        assertTrue(results.getPage(4, 2).isEmpty());
+    }
+
+    @Test
+    void size_matchingItems_countedWithoutRendering() {
+        assertEquals(5, results.size());
+        assertEquals("c", results.get(2));
+    }
+}
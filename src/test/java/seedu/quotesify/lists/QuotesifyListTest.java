@@ -0,0 +1,41 @@
+package seedu.quotesify.lists;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.quotesify.todo.ToDo;
+import seedu.quotesify.todo.ToDoList;
+
+import static org.junit.Assert.assertEquals;
+
+public class QuotesifyListTest {
+    private ToDoList toDoList;
+    private ToDo read;
+    private ToDo write;
+
+    @BeforeEach
+    void setUp() {
+        toDoList = new ToDoList();
+        read = new ToDo("read", "tmr", false);
+        write = new ToDo("write", "tmr", false);
+        toDoList.add(read);
+        toDoList.add(write);
+    }
+
+    @Test
+    public void getIndex_afterItemDeleted_returnsShiftedPosition() {
+        assertEquals(1, toDoList.getIndex(write));
+        toDoList.delete(1);
+        assertEquals(0, toDoList.getIndex(write));
+        assertEquals(-1, toDoList.getIndex(read));
+    }
+
+    @Test
+    public void getIndex_itemInsertedDirectlyIntoList_returnsNewPositions() {
+        assertEquals(0, toDoList.getIndex(read));
+        ToDo sleep = new ToDo("sleep", "tonight", false);
+        toDoList.getList().add(0, sleep);
+        assertEquals(0, toDoList.getIndex(sleep));
+        assertEquals(1, toDoList.getIndex(read));
+        assertEquals(2, toDoList.getIndex(write));
+    }
+}
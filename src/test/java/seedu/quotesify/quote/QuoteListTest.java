@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import seedu.quotesify.author.Author;
 import seedu.quotesify.exception.QuotesifyException;
 
+import java.util.Arrays;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
@@ -90,20 +92,17 @@ public class QuoteListTest {
 
     @Test
     public void getQuoteByAuthor() {
-        String param = "1. " + quote.toString();
-        assertEquals(param, quoteList.getQuotesByAuthor(authorName));
+        assertEquals(Arrays.asList(quote), quoteList.getQuotesByAuthor(authorName));
     }
 
     @Test
     public void getQuoteByReference() {
-        String param = "1. " + quote.toString();
-        assertEquals(param, quoteList.getQuotesByReference(reference));
+        assertEquals(Arrays.asList(quote), quoteList.getQuotesByReference(reference));
     }
 
     @Test
     public void getQuoteByReferenceAndAuthor() {
-        String param = "1. " + quote.toString();
-        assertEquals(param, quoteList.getQuotesByReferenceAndAuthor(reference, authorName));
+        assertEquals(Arrays.asList(quote), quoteList.getQuotesByReferenceAndAuthor(reference, authorName));
     }
 
     @Test
@@ -111,4 +110,87 @@ public class QuoteListTest {
         String param = "1. " + quote.toString();
         assertEquals(param, quoteList.toString());
     }
+
+    @Test
+    public void getQuotesByAuthor_afterQuotesAddedAndEdited_quotesInListOrder() {
+        Quote secondQuote = new Quote("Search your feelings", new Author("darth  vader"));
+        quoteList.add(secondQuote);
+        assertEquals(Arrays.asList(quote, secondQuote), quoteList.getQuotesByAuthor("DARTH VADER"));
+
+        quoteList.updateQuote(new Quote("No, I am your father", new Author("Luke")), quoteIndex);
+        assertEquals(Arrays.asList(secondQuote), quoteList.getQuotesByAuthor(authorName));
+        quoteList.delete(1);
+        assertTrue(quoteList.getQuotesByAuthor(authorName).isEmpty());
+    }
+
+    @Test
+    public void findQuoteRanked_wordsInReflection_matchFoundAfterReflectionAdded() throws QuotesifyException {
+        assertTrue(quoteList.findQuoteByKeywordRanked("yoda cute").isEmpty());
+        quoteList.addReflection(reflection, quoteIndex);
+        assertEquals(quote, quoteList.findQuoteByKeywordRanked("yoda cute").get(0));
+        assertTrue(quoteList.findQuoteByKeyword("yoda cute").isEmpty());
+    }
+
+    @Test
+    public void findQuote_partOfWord_matchFound() {
+        assertEquals(quote, quoteList.findQuoteByKeyword("fath").get(0));
+    }
+
+    @Test
+    public void findQuote_wholeWordAndPartOfWord_allMatchesInListOrder() {
+        Quote partOfWordQuote = new Quote("There is no try");
+        Quote wholeWordQuote = new Quote("May the force be with you");
+        Quote otherQuote = new Quote("Do or do not");
+        quoteList.add(partOfWordQuote);
+        quoteList.add(wholeWordQuote);
+        quoteList.add(otherQuote);
+        assertEquals(Arrays.asList(quote, partOfWordQuote, wholeWordQuote), quoteList.findQuoteByKeyword("the"));
+        assertEquals(Arrays.asList(wholeWordQuote), quoteList.findQuoteByKeywordRanked("the"));
+    }
+
+    @Test
+    public void findQuoteRanked_termRepeatedInQuote_rankedFirst() {
+        Quote repeatedQuote = new Quote("Father, father, where art thou?");
+        quoteList.add(repeatedQuote);
+        assertEquals(Arrays.asList(repeatedQuote, quote), quoteList.findQuoteByKeywordRanked("father"));
+        assertEquals(Arrays.asList(quote, repeatedQuote), quoteList.findQuoteByKeyword("father"));
+    }
+
+    @Test
+    public void isDuplicateQuote_differentPunctuationAndCase_duplicate() {
+        assertTrue(quoteList.isDuplicateQuote(new Quote("i am  your FATHER")));
+        assertFalse(quoteList.isDuplicateQuote(new Quote("I am your mother!")));
+    }
+
+    @Test
+    public void isDuplicateQuote_afterDeleteAndUpdate_tracksCurrentQuotes() {
+        quoteList.add(new Quote("I am your father."));
+        quoteList.delete(0);
+        assertTrue(quoteList.isDuplicateQuote(quote));
+        quoteList.updateQuote(new Quote("Use the force"), 0);
+        assertFalse(quoteList.isDuplicateQuote(quote));
+    }
+
+    @Test
+    public void findDuplicateClusters_nearlySameQuotes_grouped() {
+        Quote nearQuote = new Quote("I am your father, Luke!");
+        Quote otherQuote = new Quote("May the force be with you");
+        quoteList.add(otherQuote);
+        quoteList.add(nearQuote);
+        assertEquals(Arrays.asList(quote, nearQuote), quoteList.findSimilarQuotes(new Quote("I am your father")));
+        assertEquals(Arrays.asList(Arrays.asList(quote, nearQuote)), quoteList.findDuplicateClusters());
+    }
+
+    @Test
+    public void addAll_newQuotes_appendedAndIndexed() {
+        assertEquals(1, quoteList.findQuoteByKeyword("father").size());
+        Quote newQuote = new Quote("Father knows best", new Author("Jim Anderson"));
+        quoteList.addAll(Arrays.asList(newQuote, new Quote("Use the force")));
+
+        assertEquals(3, quoteList.getSize());
+        assertEquals(newQuote, quoteList.getQuote(1));
+        assertTrue(quoteList.isDuplicateQuote(new Quote("use the FORCE!")));
+        assertEquals(2, quoteList.findQuoteByKeyword("father").size());
+        assertEquals(Arrays.asList(newQuote), quoteList.getQuotesByAuthor("jim anderson"));
+    }
 }
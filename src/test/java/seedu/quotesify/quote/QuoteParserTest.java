@@ -283,4 +283,19 @@ public class QuoteParserTest {
         assertEquals(QuoteParser.ERROR_MISSING_REFLECTION_FIELD, exception.getMessage());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void parseFieldsIntoQuote_blankAuthor_parseSuccess() throws QuotesifyException {
+        assertEquals(quoteWithReference.toString(),
+                QuoteParser.parseFieldsIntoQuote(" I am your father! ", "Star Wars", " ").toString());
+        assertEquals(getQuoteWithReferenceAndAuthor.toString(),
+                QuoteParser.parseFieldsIntoQuote(movieQuote, reference, authorName).toString());
+    }
+
+    @Test
+    public void parseFieldsIntoQuote_missingQuote_throwsQuotesifyException() {
+        Throwable exception = assertThrows(QuotesifyException.class, () ->
+                QuoteParser.parseFieldsIntoQuote(null, reference, authorName));
+        assertEquals(QuoteParser.ERROR_MISSING_QUOTE, exception.getMessage());
+    }
+}
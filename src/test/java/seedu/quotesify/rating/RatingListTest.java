@@ -6,7 +6,10 @@ import seedu.quotesify.author.Author;
 import seedu.quotesify.book.Book;
 import seedu.quotesify.book.BookList;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 /**
  * Represents a test class for RatingList.
@@ -55,4 +58,25 @@ public class RatingListTest {
         assertEquals(book.getRating(), 0);
         assertEquals(ratings.getList().size(), 0);
     }
+
+    /**
+     * Tests that listing the ratings again after they have been sorted leaves the rating list unchanged,
+     * even when ratings share a score.
+     */
+    @Test
+    public void sort_listedTwice_notDirty() {
+        Book secondBook = new Book(new Author("Jane Austen"), "Emma");
+        Rating secondRating = new Rating(secondBook, 5);
+        Rating lowRating = new Rating(new Book(new Author("Frank Herbert"), "Dune"), 3);
+        ratings.add(lowRating);
+        ratings.add(rating);
+        ratings.add(secondRating);
+        ratings.sort();
+        ratings.clearChanges();
+
+        ratings.sort();
+        ratings.sort();
+        assertFalse(ratings.isDirty());
+        assertEquals(Arrays.asList(rating, secondRating, lowRating), ratings.getList());
+    }
 }
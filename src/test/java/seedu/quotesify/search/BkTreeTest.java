@@ -0,0 +1,55 @@
+package seedu.quotesify.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+class BkTreeTest {
+    private static final List<String> WORDS = Arrays.asList("book", "books", "boon", "cook", "cake", "boo", "cape",
+            "cart", "potter", "plotter", "book");
+
+    private BkTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new BkTree();
+        for (String word : WORDS) {
+            tree.add(word);
+        }
+    }
+
+    @Test
+    void getDistance_differentWords_countsEdits() {
+        assertEquals(0, BkTree.getDistance("book", "book"));
+        assertEquals(1, BkTree.getDistance("book", "books"));
+        assertEquals(1, BkTree.getDistance("book", "boon"));
+        assertEquals(3, BkTree.getDistance("kitten", "sitting"));
+        assertEquals(4, BkTree.getDistance("", "book"));
+    }
+
+    @Test
+    void add_duplicateWord_storedOnce() {
+        assertEquals(10, tree.getSize());
+    }
+
+    @Test
+    void search_withinDistance_sameResultsAsScan() {
+        for (String query : Arrays.asList("book", "bok", "cope", "poter", "xyz", "")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                HashMap<String, Integer> expected = new HashMap<>();
+                for (String word : WORDS) {
+                    int distance = BkTree.getDistance(query, word);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+                assertEquals(expected, tree.search(query, maxDistance));
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.quotesify.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+class FuzzyIndexTest {
+    private FuzzyIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FuzzyIndex<>();
+        index.add("crime", "crime and punishment", "fyodor dostoevsky");
+        index.add("idiot", "the idiot", "fyodor dostoevsky");
+        index.add("potter", "harry potter", "jk rowling");
+        index.add("plotter", "the plotter", "someone else");
+    }
+
+    @Test
+    void search_misspeltWord_findsNearWords() {
+        assertEquals(Arrays.asList("crime", "idiot"), index.search("dostoevski", Comparator.naturalOrder()));
+        assertEquals(Arrays.asList("crime"), index.search("crme punishmnt", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void search_nearerMatch_rankedFirst() {
+        assertEquals(Arrays.asList("potter", "plotter"), index.search("potters", Comparator.naturalOrder()));
+        assertEquals(Arrays.asList("plotter", "potter"), index.search("plotters", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void search_wordsInDifferentKeys_notMatched() {
+        assertTrue(index.search("idiot fyodor", Comparator.naturalOrder()).isEmpty());
+        assertEquals(Arrays.asList("idiot"), index.search("the idiot", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void search_chosenKey_onlySearchesThatKey() {
+        assertTrue(index.search("dostoevsky", 1, Comparator.naturalOrder()).isEmpty());
+        assertEquals(Arrays.asList("crime", "idiot"), index.search("dostoevsky", 2, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void search_shortWord_mustMatchExactly() {
+        assertTrue(index.search("jj", Comparator.naturalOrder()).isEmpty());
+        assertEquals(Arrays.asList("potter"), index.search("jk", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void remove_indexedItem_noLongerFound() {
+        index.remove("potter");
+        assertEquals(Arrays.asList("plotter"), index.search("potters", Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.quotesify.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+class InvertedIndexTest {
+    private InvertedIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex<>();
+        index.add("a", "the quick brown fox", null);
+        index.add("b", "the lazy dog", "quick quick");
+        index.add("c", "a fox and a dog");
+    }
+
+    @Test
+    void tokenize_punctuationAndCase_lowerCaseWords() {
+        assertEquals(Arrays.asList("don", "t", "stop", "2", "go"), InvertedIndex.tokenize("Don't  STOP, 2-go!"));
+    }
+
+    @Test
+    void search_multipleTerms_onlyItemsWithAllTerms() {
+        assertEquals(Arrays.asList("c"), index.search("Dog FOX", Comparator.naturalOrder()));
+        assertTrue(index.search("dog cat", Comparator.naturalOrder()).isEmpty());
+    }
+
+    @Test
+    void search_singleTerm_rankedByTermFrequency() {
+        assertEquals(Arrays.asList("b", "a"), index.search("quick", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void add_existingItemWithNewText_replacesOldTerms() {
+        index.add("a", "slow turtle");
+        ArrayList<String> matches = index.search("fox", Comparator.naturalOrder());
+        assertEquals(Arrays.asList("c"), matches);
+        assertEquals(Arrays.asList("a"), index.search("turtle", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void remove_indexedItem_noLongerFound() {
+        index.remove("c");
+        assertEquals(2, index.getSize());
+        assertEquals(Arrays.asList("a"), index.search("fox", Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.quotesify.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+class MinHashIndexTest {
+    private MinHashIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MinHashIndex<>();
+        index.add("a", "the only way out is through");
+        index.add("b", "the only way out is through it");
+        index.add("c", "stay hungry stay foolish");
+        index.add("d", "the only way out is thru");
+        index.add("e", "stay hungry, stay foolish");
+        index.add("f", "be yourself everyone else is already taken");
+    }
+
+    @Test
+    void getSimilarity_sharedShingles_intersectionOverUnion() {
+        assertEquals(1.0, MinHashIndex.getSimilarity(MinHashIndex.getShingles("abcd"),
+                MinHashIndex.getShingles("abcd")), 0);
+        assertEquals(1.0 / 3, MinHashIndex.getSimilarity(MinHashIndex.getShingles("abcd"),
+                MinHashIndex.getShingles("bcde")), 1e-9);
+        assertEquals(0.0, MinHashIndex.getSimilarity(MinHashIndex.getShingles("abc"),
+                MinHashIndex.getShingles("xyz")), 0);
+    }
+
+    @Test
+    void findSimilar_nearlySameText_found() {
+        assertEquals(Arrays.asList("a", "b", "d"),
+                index.findSimilar("the only way out is through", 0.7, Comparator.naturalOrder()));
+        assertTrue(index.findSimilar("something else entirely", 0.7, Comparator.naturalOrder()).isEmpty());
+    }
+
+    @Test
+    void findClusters_similarItems_groupedInOrder() {
+        assertEquals(Arrays.asList(Arrays.asList("a", "b", "d"), Arrays.asList("c", "e")),
+                index.findClusters(0.7, Comparator.naturalOrder()));
+    }
+
+    @Test
+    void remove_indexedItem_leavesCluster() {
+        index.remove("e");
+        assertEquals(Arrays.asList(Arrays.asList("a", "b", "d")), index.findClusters(0.7, Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.quotesify.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+class SearchKeyTest {
+
+    @Test
+    void normalize_mixedCaseAndWhitespace_lowerCaseWithSingleSpaces() {
+        assertEquals("harry potter and the goblet", SearchKey.normalize("  Harry\tPotter  and\nthe Goblet "));
+    }
+
+    @Test
+    void normalize_onlyWhitespace_emptyKey() {
+        assertEquals("", SearchKey.normalize(" \t "));
+    }
+
+    @Test
+    void normalize_null_null() {
+        assertNull(SearchKey.normalize(null));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.quotesify.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+class TrigramIndexTest {
+    private static final List<String> TITLES = Arrays.asList("philosophy of mind", "the philosopher's stone",
+            "a brief history of time", "dolphins", "of mice and men");
+
+    private TrigramIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex<>();
+        for (String title : TITLES) {
+            index.add(title, title, null);
+        }
+    }
+
+    @Test
+    void search_partOfWord_sameResultsAsScan() {
+        for (String query : Arrays.asList("phil", "phi", "of", "o", "", "hilos", "of mi", "stones", "xyz")) {
+            ArrayList<String> expected = new ArrayList<>();
+            for (String title : TITLES) {
+                if (title.contains(query)) {
+                    expected.add(title);
+                }
+            }
+            expected.sort(Comparator.naturalOrder());
+            assertEquals(expected, index.search(query, Comparator.naturalOrder()));
+        }
+    }
+
+    @Test
+    void add_existingItemWithNewKeys_matchesOnlyNewKeys() {
+        index.add("dolphins", "whales");
+        assertTrue(index.search("dolph", Comparator.naturalOrder()).isEmpty());
+        assertEquals(Arrays.asList("dolphins"), index.search("hale", Comparator.naturalOrder()));
+    }
+
+    @Test
+    void remove_indexedItem_noLongerFound() {
+        index.remove("philosophy of mind");
+        assertEquals(Arrays.asList("the philosopher's stone"), index.search("philosoph", Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AtomicFileTest {
+    @TempDir
+    Path tempDir;
+
+    private File file;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("quotesify.json").toFile();
+    }
+
+    @Test
+    public void write_newFile_writesContentsWithoutLeftovers() throws IOException {
+        new AtomicFile(file, true).write(channel -> channel.write(encode("first")));
+
+        assertEquals("first", read(file));
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+        assertFalse(new File(file.getPath() + ".bak").exists());
+    }
+
+    @Test
+    public void write_existingFile_keepsPreviousContentsAsBackup() throws IOException {
+        AtomicFile atomicFile = new AtomicFile(file, true);
+        atomicFile.write(channel -> channel.write(encode("first")));
+        atomicFile.write(channel -> channel.write(encode("second")));
+
+        assertEquals("second", read(file));
+        assertEquals("first", read(atomicFile.getBackupFile()));
+    }
+
+    @Test
+    public void write_failingWriter_leavesFileUnchanged() throws IOException {
+        AtomicFile atomicFile = new AtomicFile(file, true);
+        atomicFile.write(channel -> channel.write(encode("first")));
+        Throwable exception = assertThrows(IOException.class, () -> atomicFile.write(channel -> {
+            channel.write(encode("sec"));
+            throw new IOException("Disk full");
+        }));
+        assertEquals("Disk full", exception.getMessage());
+
+        assertEquals("first", read(file));
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    public void recover_interruptedWrite_restoresBackupAndDeletesTempFile() throws IOException {
+        AtomicFile atomicFile = new AtomicFile(file, true);
+        atomicFile.write(channel -> channel.write(encode("first")));
+        atomicFile.write(channel -> channel.write(encode("second")));
+        assertTrue(file.delete());
+        File tempFile = new File(file.getPath() + ".tmp");
+        Files.write(tempFile.toPath(), "seco".getBytes(StandardCharsets.UTF_8));
+
+        atomicFile.recover();
+        assertEquals("first", read(file));
+        assertFalse(tempFile.exists());
+    }
+
+    private static ByteBuffer encode(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.quotesify.author.Author;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.quote.Quote;
+import seedu.quotesify.quote.QuoteList;
+import seedu.quotesify.todo.ToDo;
+import seedu.quotesify.todo.ToDoList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinarySnapshotTest {
+
+    @BeforeEach
+    void setUp() {
+        ListManager.initialiseAllLists();
+        BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+        ArrayList<String> categories = new ArrayList<>();
+        categories.add("fantasy");
+        bookList.add(new Book(new Author("J K Rowling"), "Harry Potter", true, categories, 5));
+
+        QuoteList quoteList = (QuoteList) ListManager.getList(ListManager.QUOTE_LIST);
+        quoteList.add(new Quote(null, "Life is short", new ArrayList<>(), null, "So true"));
+
+        ToDoList toDoList = (ToDoList) ListManager.getList(ListManager.TODO_LIST);
+        toDoList.add(new ToDo("Return Harry Potter", "tmr 2pm", false));
+    }
+
+    @Test
+    public void read_writtenSnapshot_restoresAllLists() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new BinarySnapshot().write(outputStream, 42);
+
+        BinarySnapshot snapshot = new BinarySnapshot();
+        snapshot.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(42, snapshot.getJournalSequence());
+        assertEquals(6, snapshot.getLists().size());
+
+        Book book = ((BookList) snapshot.getLists().get(Storage.BOOKS)).getList().get(0);
+        assertEquals("Harry Potter", book.getTitle());
+        assertEquals("J K Rowling", book.getAuthor().getName());
+        assertEquals("fantasy", book.getCategories().get(0));
+        assertEquals(5, book.getRating());
+        assertTrue(book.isDone());
+
+        Quote quote = ((QuoteList) snapshot.getLists().get(Storage.QUOTES)).getList().get(0);
+        assertEquals("Life is short", quote.getQuote());
+        assertNull(quote.getAuthor());
+        assertNull(quote.getReference());
+        assertEquals("So true", quote.getReflection());
+
+        ToDo toDo = ((ToDoList) snapshot.getLists().get(Storage.TODOS)).getList().get(0);
+        assertEquals("tmr 2pm", toDo.getDeadline());
+    }
+
+    @Test
+    public void read_jsonData_throwsIOException() {
+        byte[] json = "{\"books\":[]}".getBytes();
+        assertThrows(IOException.class, () -> new BinarySnapshot().read(new ByteArrayInputStream(json)));
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ExportWriterTest {
+    private static final List<String> COLUMNS = Arrays.asList("quote", "author", "categories");
+
+    @Test
+    public void writeRow_csv_quotesOnlyFieldsThatNeedIt() throws IOException {
+        String csv = write(ExchangeFormat.CSV, Arrays.asList("Be \"yourself\", always", "Oscar Wilde",
+                Arrays.asList("life", "self")), Arrays.asList("Carpe diem", null, Arrays.asList()));
+
+        assertEquals("quote,author,categories\r\n"
+                + "\"Be \"\"yourself\"\", always\",Oscar Wilde,life; self\r\n"
+                + "Carpe diem,,\r\n", csv);
+    }
+
+    @Test
+    public void writeRow_csv_readBackByImportReader() throws IOException {
+        String csv = write(ExchangeFormat.CSV, Arrays.asList("Line one\nline two", " Oscar ", null));
+        HashMap<String, String> record = new ImportReader(new StringReader(csv), ExchangeFormat.CSV).nextRecord();
+
+        assertEquals("Line one\nline two", record.get("quote"));
+        assertEquals(" Oscar ", record.get("author"));
+        assertEquals("", record.get("categories"));
+    }
+
+    @Test
+    public void writeRow_jsonLines_writesOneObjectPerLine() throws IOException {
+        String json = write(ExchangeFormat.JSON_LINES, Arrays.asList("Be yourself", null, Arrays.asList("life")),
+                Arrays.asList("Carpe diem", "Horace", Arrays.asList()));
+
+        assertEquals("{\"quote\":\"Be yourself\",\"author\":null,\"categories\":[\"life\"]}\n"
+                + "{\"quote\":\"Carpe diem\",\"author\":\"Horace\",\"categories\":[]}\n", json);
+        ImportReader reader = new ImportReader(new StringReader(json), ExchangeFormat.JSON_LINES);
+        assertNull(reader.nextRecord().get("author"));
+        assertEquals("Horace", reader.nextRecord().get("author"));
+    }
+
+    @Test
+    public void writeRow_markdown_escapesPipesAndLineBreaks() throws IOException {
+        String markdown = write(ExchangeFormat.MARKDOWN, Arrays.asList("To be | not\nto be", "Shakespeare",
+                Arrays.asList("drama")));
+
+        assertEquals("# Quotes\n\n"
+                + "| Quote | Author | Categories |\n"
+                + "| --- | --- | --- |\n"
+                + "| To be \\| not<br>to be | Shakespeare | drama |\n", markdown);
+    }
+
+    private static String write(ExchangeFormat format, List<?>... rows) throws IOException {
+        StringWriter output = new StringWriter();
+        ExportWriter writer = new ExportWriter(output, format, COLUMNS);
+        writer.writeHeader("Quotes");
+        for (List<?> row : rows) {
+            writer.writeRow(row);
+        }
+        writer.flush();
+        return output.toString();
+    }
+}
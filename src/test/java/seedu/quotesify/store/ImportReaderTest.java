@@ -0,0 +1,83 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ImportReaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void nextRecord_csvWithQuotedFields_returnsFieldsByLowerCaseName() throws IOException {
+        String csv = "Title,Author\r\n"
+                + "\"Harry Potter, Book 1\",J K Rowling\r\n"
+                + "\r\n"
+                + "\"The \"\"Hobbit\"\"\",\"J R R\nTolkien\"\n";
+        ImportReader reader = new ImportReader(new StringReader(csv), ExchangeFormat.CSV);
+
+        HashMap<String, String> first = reader.nextRecord();
+        assertEquals("Harry Potter, Book 1", first.get("title"));
+        assertEquals("J K Rowling", first.get("author"));
+        HashMap<String, String> second = reader.nextRecord();
+        assertEquals("The \"Hobbit\"", second.get("title"));
+        assertEquals("J R R\nTolkien", second.get("author"));
+        assertEquals(2, reader.getRecordNumber());
+        assertNull(reader.nextRecord());
+    }
+
+    @Test
+    public void nextRecord_csvWithUnclosedQuote_throwsIoException() throws IOException {
+        ImportReader reader = new ImportReader(new StringReader("quote\n\"Be yourself\n"), ExchangeFormat.CSV);
+
+        assertThrows(IOException.class, reader::nextRecord);
+        assertEquals(1, reader.getRecordNumber());
+    }
+
+    @Test
+    public void nextRecord_jsonLines_returnsStringsAndTextOfOtherValues() throws IOException {
+        String json = "{\"Quote\":\"Be yourself\",\"author\":\"Oscar Wilde\",\"reference\":null}\n"
+                + "{\"quote\":\"Carpe diem\",\"year\":23}\n";
+        ImportReader reader = new ImportReader(new StringReader(json), ExchangeFormat.JSON_LINES);
+
+        HashMap<String, String> first = reader.nextRecord();
+        assertEquals("Be yourself", first.get("quote"));
+        assertEquals("Oscar Wilde", first.get("author"));
+        assertNull(first.get("reference"));
+        assertEquals("23", reader.nextRecord().get("year"));
+        assertNull(reader.nextRecord());
+    }
+
+    @Test
+    public void open_fileWithByteOrderMark_skipsByteOrderMark() throws IOException {
+        File file = tempDir.resolve("books.csv").toFile();
+        byte[] byteOrderMark = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        Files.write(file.toPath(), byteOrderMark);
+        Files.write(file.toPath(), "title,author\nDune,Frank Herbert\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        try (ImportReader reader = ImportReader.open(file)) {
+            assertEquals("Dune", reader.nextRecord().get("title"));
+        }
+    }
+
+    @Test
+    public void open_unsupportedExtension_throwsIoException() throws IOException {
+        File file = tempDir.resolve("books.txt").toFile();
+        Files.write(file.toPath(), "Dune".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> ImportReader.open(file));
+    }
+}
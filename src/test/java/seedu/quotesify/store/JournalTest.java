@@ -0,0 +1,85 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.quotesify.author.Author;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JournalTest {
+    @TempDir
+    Path tempDir;
+
+    private Journal journal;
+    private File journalFile;
+    private BookList bookList;
+
+    @BeforeEach
+    void setUp() {
+        journalFile = tempDir.resolve("quotesify.journal").toFile();
+        journal = new Journal(journalFile);
+        bookList = new BookList();
+        bookList.add(new Book(new Author("J K Rowling"), "Harry Potter"));
+        bookList.add(new Book(new Author("Jane Austen"), "Emma"));
+    }
+
+    @Test
+    public void append_listChanges_readBackInOrder() throws IOException {
+        journal.append("books", bookList.getChanges());
+        bookList.clearChanges();
+        bookList.delete(0);
+        journal.append("books", bookList.getChanges());
+
+        Journal reloaded = new Journal(journalFile);
+        ArrayList<JournalEntry> entries = reloaded.readEntriesAfter(0);
+        assertEquals(3, entries.size());
+        assertEquals("add", entries.get(0).getOperation());
+        assertEquals("delete", entries.get(2).getOperation());
+        assertEquals(3L, reloaded.getSequence());
+    }
+
+    @Test
+    public void readEntriesAfter_snapshotSequence_skipsOlderEntries() throws IOException {
+        journal.append("books", bookList.getChanges());
+
+        Journal reloaded = new Journal(journalFile);
+        assertEquals(1, reloaded.readEntriesAfter(1).size());
+        assertEquals(2, reloaded.getEntryCount());
+    }
+
+    @Test
+    public void readEntriesAfter_corruptedEntry_stopsAndRequestsCompaction() throws IOException {
+        journal.append("books", bookList.getChanges());
+        FileWriter writer = new FileWriter(journalFile, true);
+        writer.write("{\"seq\":3,\"op\":");
+        writer.close();
+
+        Journal reloaded = new Journal(journalFile);
+        assertEquals(2, reloaded.readEntriesAfter(0).size());
+        assertTrue(reloaded.isCompactionDue());
+
+        reloaded.reset();
+        assertFalse(reloaded.isCompactionDue());
+        assertEquals(0, reloaded.readEntriesAfter(0).size());
+    }
+
+    @Test
+    public void append_fileCannotBeWritten_sequenceNotAdvanced() {
+        Journal unwritableJournal = new Journal(tempDir.toFile());
+        assertThrows(IOException.class, () -> unwritableJournal.append("books", bookList.getChanges()));
+        assertEquals(0L, unwritableJournal.getSequence());
+        assertEquals(0, unwritableJournal.getEntryCount());
+    }
+}
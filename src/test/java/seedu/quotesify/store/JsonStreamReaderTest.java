@@ -0,0 +1,104 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.quote.Quote;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonStreamReaderTest {
+
+    @Test
+    public void readBook_validSaveData_returnsBook() throws IOException {
+        String json = "{\"author\":{\"name\":\"J K Rowling\"},\"rating\":5,\"categories\":[\"fantasy\"],"
+                + "\"title\":\"Harry Potter\",\"isDone\":true}";
+        Book book = SaveDataReader.readBook(new JsonStreamReader(new StringReader(json)));
+
+        assertEquals("Harry Potter", book.getTitle());
+        assertEquals("J K Rowling", book.getAuthor().getName());
+        assertEquals(5, book.getRating());
+        assertTrue(book.isDone());
+        assertEquals("fantasy", book.getCategories().get(0));
+    }
+
+    @Test
+    public void readQuote_escapedCharactersAndNulls_returnsQuote() throws IOException {
+        String json = "{\"reference\":null,\"quote\":\"\\\"a\\/b\\\"!\",\"reflection\":null,"
+                + "\"author\":null,\"categories\":[]}";
+        Quote quote = SaveDataReader.readQuote(new JsonStreamReader(new StringReader(json)));
+
+        assertEquals("\"a/b\"!", quote.getQuote());
+        assertNull(quote.getAuthor());
+        assertNull(quote.getReference());
+    }
+
+    @Test
+    public void readBook_missingField_throwsNullPointerException() {
+        String json = "{\"title\":\"Harry Potter\",\"categories\":[],\"rating\":0}";
+        assertThrows(NullPointerException.class, () ->
+                SaveDataReader.readBook(new JsonStreamReader(new StringReader(json))));
+    }
+
+    @Test
+    public void skipValue_nestedValues_skipsWholeValue() throws IOException {
+        String json = "[{\"a\":[1,2,{\"b\":null}],\"c\":-1.5e3}, true]";
+        JsonStreamReader reader = new JsonStreamReader(new StringReader(json));
+        reader.beginArray();
+        assertTrue(reader.hasNext());
+        reader.skipValue();
+        assertTrue(reader.hasNext());
+        assertTrue(reader.nextBoolean());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        reader.endDocument();
+    }
+
+    @Test
+    public void nextRawValue_valueAcrossBufferRefills_returnsWholeText() throws IOException {
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            longText.append("word").append(i).append(' ');
+        }
+        String value = "[{\"a\":\"" + longText + "\"},{\"b\":[1,\"\\\"\"]}]";
+        JsonStreamReader reader = new JsonStreamReader(new StringReader("{\"books\": " + value + ",\"c\":2}"));
+        reader.beginObject();
+        assertEquals("books", reader.nextName());
+        assertEquals(value, reader.nextRawValue());
+        assertTrue(reader.hasNext());
+        assertEquals("c", reader.nextName());
+        assertEquals(2, reader.nextLong());
+        reader.endObject();
+        reader.endDocument();
+    }
+
+    @Test
+    public void nextRawValue_scalars_returnsTextUpToDelimiter() throws IOException {
+        JsonStreamReader reader = new JsonStreamReader(new StringReader("[-1.5e3 ,\"x\\\"]\",true]"));
+        reader.beginArray();
+        assertTrue(reader.hasNext());
+        assertEquals("-1.5e3", reader.nextRawValue());
+        assertTrue(reader.hasNext());
+        assertEquals("\"x\\\"]\"", reader.nextRawValue());
+        assertTrue(reader.hasNext());
+        assertEquals("true", reader.nextRawValue());
+        assertFalse(reader.hasNext());
+        reader.endArray();
+    }
+
+    @Test
+    public void beginObject_truncatedData_throwsIOException() {
+        JsonStreamReader reader = new JsonStreamReader(new StringReader("{\"books\":[{\"title\":\"a"));
+        assertThrows(IOException.class, () -> {
+            reader.beginObject();
+            reader.nextName();
+            reader.skipValue();
+        });
+    }
+}
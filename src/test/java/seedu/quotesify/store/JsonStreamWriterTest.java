@@ -0,0 +1,74 @@
+package seedu.quotesify.store;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Test;
+import seedu.quotesify.author.Author;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.quote.Quote;
+import seedu.quotesify.quote.QuoteList;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonStreamWriterTest {
+
+    @Test
+    public void value_listsOfModelObjects_sameTextAsJsonSimple() throws IOException {
+        BookList books = new BookList();
+        books.add(new Book(new Author("J K Rowling"), "Harry Potter"));
+        books.add(new Book(new Author("Ann \"A/B\" Lee"), "Tabs\tand\nnew lines"));
+        QuoteList quotes = new QuoteList();
+        quotes.add(new Quote("So everyone’s supposed to sleep?", "Rick and Morty", new Author("Rick")));
+        quotes.add(new Quote("No author"));
+
+        JSONObject streamed = new JSONObject();
+        streamed.put(Storage.BOOKS, books);
+        streamed.put(Storage.QUOTES, quotes);
+        streamed.put("journalSequence", 42L);
+        JSONObject built = new JSONObject();
+        built.put(Storage.BOOKS, books.toJsonArray());
+        built.put(Storage.QUOTES, quotes.toJsonArray());
+        built.put("journalSequence", 42L);
+
+        StringWriter text = new StringWriter();
+        try (JsonStreamWriter writer = new JsonStreamWriter(text)) {
+            writer.value(streamed);
+        }
+        assertEquals(built.toJSONString(), text.toString());
+    }
+
+    @Test
+    public void tokens_nestedScopes_separatedByCommas() throws IOException {
+        StringWriter text = new StringWriter();
+        try (JsonStreamWriter writer = new JsonStreamWriter(text)) {
+            writer.beginObject();
+            writer.name("a");
+            writer.beginArray();
+            writer.value(1);
+            writer.beginObject();
+            writer.endObject();
+            writer.value(null);
+            writer.endArray();
+            writer.name("b");
+            writer.value(true);
+            writer.endObject();
+        }
+        assertEquals("{\"a\":[1,{},null],\"b\":true}", text.toString());
+    }
+
+    @Test
+    public void value_writtenQuote_readBackUnchanged() throws IOException {
+        Quote quote = new Quote("\"a/b\" \\ c", "ref", new Author("me"));
+        StringWriter text = new StringWriter();
+        try (JsonStreamWriter writer = new JsonStreamWriter(text)) {
+            writer.value(quote);
+        }
+
+        Quote readQuote = SaveDataReader.readQuote(new JsonStreamReader(new StringReader(text.toString())));
+        assertEquals(quote.toString(), readQuote.toString());
+    }
+}
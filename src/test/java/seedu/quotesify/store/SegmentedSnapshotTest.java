@@ -0,0 +1,105 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.quotesify.author.Author;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.lists.ListManager;
+import seedu.quotesify.todo.ToDo;
+import seedu.quotesify.todo.ToDoList;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SegmentedSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    private File directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = tempDir.toFile();
+        ListManager.initialiseAllLists();
+        BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+        bookList.add(new Book(new Author("J K Rowling"), "Harry Potter"));
+        ToDoList toDoList = (ToDoList) ListManager.getList(ListManager.TODO_LIST);
+        toDoList.add(new ToDo("Return Harry Potter", "tmr 2pm", false));
+    }
+
+    @Test
+    public void read_writtenSegments_restoresListsAndSequences() throws IOException {
+        new SegmentedSnapshot(directory).write(new ArrayList<>(), 7);
+
+        SegmentedSnapshot snapshot = new SegmentedSnapshot(directory);
+        snapshot.read();
+        assertEquals(6, snapshot.getLists().size());
+        assertEquals(1, ((BookList) snapshot.getLists().get(Storage.BOOKS)).getSize());
+        assertEquals(Long.valueOf(7), snapshot.getJournalSequence(Storage.TODOS));
+    }
+
+    @Test
+    public void readSegment_afterManifest_readsOnlyThatSection() throws IOException {
+        new SegmentedSnapshot(directory).write(new ArrayList<>(), 7);
+
+        SegmentedSnapshot snapshot = new SegmentedSnapshot(directory);
+        snapshot.readManifest();
+        assertEquals(7, snapshot.getJournalSequence());
+        snapshot.readSegment(Storage.TODOS);
+        assertEquals(1, snapshot.getLists().size());
+        assertEquals(1, ((ToDoList) snapshot.getLists().get(Storage.TODOS)).getList().size());
+    }
+
+    @Test
+    public void write_existingSegments_rewritesOnlyGivenSections() throws IOException {
+        new SegmentedSnapshot(directory).write(new ArrayList<>(), 1);
+        File bookSegment = new File(directory, "books.json");
+        File todoSegment = new File(directory, "todos.json");
+        assertTrue(bookSegment.setLastModified(0));
+        assertTrue(todoSegment.setLastModified(0));
+
+        new SegmentedSnapshot(directory).write(Collections.singletonList(Storage.TODOS), 2);
+        assertEquals(0, bookSegment.lastModified());
+        assertFalse(todoSegment.lastModified() == 0);
+    }
+
+    @Test
+    public void read_corruptedSegment_leavesOnlyThatSectionOut() throws IOException {
+        new SegmentedSnapshot(directory).write(new ArrayList<>(), 1);
+        FileWriter writer = new FileWriter(new File(directory, "books.json"));
+        writer.write("{\"books\":[{\"title\":");
+        writer.close();
+
+        SegmentedSnapshot snapshot = new SegmentedSnapshot(directory);
+        snapshot.read();
+        assertNull(snapshot.getLists().get(Storage.BOOKS));
+        assertEquals(1, ((ToDoList) snapshot.getLists().get(Storage.TODOS)).getList().size());
+    }
+
+    @Test
+    public void read_corruptedSegmentWithBackup_readsPreviousSegment() throws IOException {
+        new SegmentedSnapshot(directory).write(new ArrayList<>(), 1);
+        BookList bookList = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+        bookList.add(new Book(new Author("Rick Riordan"), "Percy Jackson"));
+        new SegmentedSnapshot(directory).write(Collections.singletonList(Storage.BOOKS), 2);
+        FileWriter writer = new FileWriter(new File(directory, "books.json"));
+        writer.write("{\"books\":[{\"title\":");
+        writer.close();
+
+        SegmentedSnapshot snapshot = new SegmentedSnapshot(directory);
+        snapshot.read();
+        assertEquals(1, ((BookList) snapshot.getLists().get(Storage.BOOKS)).getSize());
+        assertEquals(Long.valueOf(1), snapshot.getJournalSequence(Storage.BOOKS));
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.quotesify.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.quotesify.author.Author;
+import seedu.quotesify.book.Book;
+import seedu.quotesify.book.BookList;
+import seedu.quotesify.lists.ListManager;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class StorageTest {
+    private String savePath;
+    private File saveDirectory;
+
+    @BeforeEach
+    void setUp() {
+        String directoryName = "/build/storage-test-" + UUID.randomUUID();
+        savePath = directoryName + "/quotesify.json";
+        saveDirectory = new File(System.getProperty("user.dir") + directoryName);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (saveDirectory.exists()) {
+            try (Stream<Path> paths = Files.walk(saveDirectory.toPath())) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        ListManager.initialiseAllLists();
+    }
+
+    @Test
+    public void load_snapshotCorruptedAfterCompaction_backupLoadedWithoutJournal() throws IOException {
+        writeTwoGenerationsAndLaterEdits(SaveFormat.JSON);
+        corrupt(new File(saveDirectory, "quotesify.json"));
+
+        ListManager.initialiseAllLists();
+        new Storage(savePath, SaveFormat.JSON, true).load();
+        assertEquals("Emma", getBookTitles());
+    }
+
+    @Test
+    public void load_segmentCorruptedAfterCompaction_backupLoadedWithoutJournal() throws IOException {
+        writeTwoGenerationsAndLaterEdits(SaveFormat.SEGMENTED);
+        corrupt(new File(saveDirectory, "quotesify/books.json"));
+
+        ListManager.initialiseAllLists();
+        new Storage(savePath, SaveFormat.SEGMENTED, true).load();
+        assertEquals("Emma", getBookTitles());
+    }
+
+    @Test
+    public void load_afterCompactionAndLaterEdits_journalReplayed() throws IOException {
+        writeTwoGenerationsAndLaterEdits(SaveFormat.JSON);
+
+        ListManager.initialiseAllLists();
+        new Storage(savePath, SaveFormat.JSON, true).load();
+        assertEquals("Dune, Persuasion", getBookTitles());
+    }
+
+    /**
+     * Saves a snapshot with one book, then a snapshot with two books, then journals a deletion and an addition,
+     * so that the backup of the snapshot is older than the start of the journal.
+     *
+     * @param format Format of the save file.
+     */
+    private void writeTwoGenerationsAndLaterEdits(SaveFormat format) {
+        ListManager.initialiseAllLists();
+        Storage storage = new Storage(savePath, format, true);
+        storage.load();
+        BookList books = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+
+        books.add(new Book(new Author("Jane Austen"), "Emma"));
+        storage.save();
+        storage.compact();
+        books.add(new Book(new Author("Jane Austen"), "Persuasion"));
+        storage.save();
+        storage.compact();
+
+        books.delete(0);
+        books.add(new Book(new Author("Frank Herbert"), "Dune"));
+        storage.save();
+    }
+
+    private void corrupt(File file) throws IOException {
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write("{\"books\":[{\"title\":");
+        }
+    }
+
+    private String getBookTitles() {
+        BookList books = (BookList) ListManager.getList(ListManager.BOOK_LIST);
+        return books.getList().stream().map(Book::getTitle).collect(Collectors.joining(", "));
+    }
+}
@@ -53,4 +53,19 @@ public class ToDoListTest {
         assertEquals(toDo2, toDoList.find(2));
         assertEquals(toDo1, toDoList.find(3));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void sortByDate_listedTwice_changedOnlyOnce() {
+        toDo1.updateDateFormat();
+        toDo2.updateDateFormat();
+        toDo3.updateDateFormat();
+        toDoList.clearChanges();
+
+        toDoList.sortByDate();
+        assertTrue(toDoList.isDirty());
+        toDoList.clearChanges();
+        toDoList.sortByDate();
+        toDoList.sortByDate();
+        assertFalse(toDoList.isDirty());
+    }
+}